@@ -0,0 +1,74 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.security.BcryptPasswordEncoder;
+import com.vbote.api.infrastructure.adapter.out.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos y adaptadores compartidos por los benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "vbote-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+    static final long JWT_EXPIRATION_MS = 86_400_000L;
+    static final String PASSWORD = "benchmark-password";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtTokenProvider tokenProvider() {
+        return new JwtTokenProvider(JWT_SECRET, JWT_EXPIRATION_MS, 100_000, new SimpleMeterRegistry());
+    }
+
+    /*
+     * Coste fijo: sin calibrar, para que los resultados sean comparables entre maquinas
+     */
+    static BcryptPasswordEncoder passwordEncoder(int strength) {
+        return new BcryptPasswordEncoder(strength, 50, strength, strength, 1, 64, new SimpleMeterRegistry());
+    }
+
+    static String username(int i) {
+        return "user" + i;
+    }
+
+    /*
+     * Uno de cada diez usuarios es admin y uno de cada veinte esta bloqueado
+     */
+    static List<User> users(int count, String encodedPassword) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .username(username(i))
+                    .password(encodedPassword)
+                    .role(i % 10 == 0 ? User.Role.ADMIN : User.Role.USER)
+                    .blocked(i % 20 == 19)
+                    .createdAt(createdAt.plusSeconds(i))
+                    .updatedAt(createdAt.plusSeconds(i))
+                    .build());
+        }
+        return users;
+    }
+
+    static List<Session> sessions(List<User> users) {
+        List<Session> sessions = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            sessions.add(Session.builder()
+                    .id((long) i + 1)
+                    .user(user)
+                    .token("token-" + i)
+                    .ipAddress("10.0.0." + (i % 250))
+                    .createdAt(user.getCreatedAt())
+                    .active(true)
+                    .build());
+        }
+        return sessions;
+    }
+}
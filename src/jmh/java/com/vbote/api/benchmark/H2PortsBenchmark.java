@@ -0,0 +1,117 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.VboteApiApplication;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.SessionUseCase;
+import com.vbote.api.domain.port.in.UserUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Los mismos caminos que {@link SessionServiceBenchmark} y {@link UserServiceBenchmark}, pero con el
+ * contexto Spring completo sobre H2 en memoria: transacciones, JPA, mappers e indice de sesiones.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class H2PortsBenchmark {
+
+    @Param("1000")
+    private int users;
+
+    @Param({"true", "false"})
+    private boolean sessionIndex;
+
+    private ConfigurableApplicationContext context;
+    private SessionUseCase sessionUseCase;
+    private UserUseCase userUseCase;
+    private String[] usernames;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VboteApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.vbote.api=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--vbote.sessions.index.enabled=" + sessionIndex,
+                        "--vbote.sessions.expiry.enabled=false",
+                        "--vbote.sessions.archive.enabled=false",
+                        "--vbote.password.bcrypt.strength=4");
+        sessionUseCase = context.getBean(SessionUseCase.class);
+        userUseCase = context.getBean(UserUseCase.class);
+
+        List<User> seeded = BenchmarkFixtures.users(users, BenchmarkFixtures.PASSWORD);
+        seeded.forEach(user -> user.setBlocked(false));
+        userUseCase.importUsers(seeded);
+
+        usernames = seeded.stream().map(User::getUsername).toArray(String[]::new);
+        tokens = new String[usernames.length];
+        for (int i = 0; i < usernames.length; i++) {
+            tokens[i] = sessionUseCase.login(usernames[i], BenchmarkFixtures.PASSWORD, "127.0.0.1").getToken();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        int next(int size) {
+            int current = next;
+            next = current + 1 == size ? 0 : current + 1;
+            return current;
+        }
+    }
+
+    @Benchmark
+    public Session validateSession(Cursor cursor) {
+        return sessionUseCase.validateSession(tokens[cursor.next(tokens.length)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Session login(Cursor cursor) {
+        return sessionUseCase.login(usernames[cursor.next(usernames.length)], BenchmarkFixtures.PASSWORD, "127.0.0.1");
+    }
+
+    @Benchmark
+    public List<User> getAllUsers() {
+        return userUseCase.getAllUsers(null, null, null);
+    }
+
+    @Benchmark
+    public List<User> getAllUsersByPrefix() {
+        return userUseCase.getAllUsers("user1", null, null);
+    }
+}
@@ -0,0 +1,156 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.port.out.SessionRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link SessionRepository} en memoria indexado por token. Devuelve copias, igual que el adaptador JPA.
+ */
+class InMemorySessionRepository implements SessionRepository {
+
+    private static final Comparator<Session> KEYSET_ORDER =
+            Comparator.comparing(Session::getCreatedAt).thenComparing(Session::getId);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Session> byToken = new ConcurrentHashMap<>();
+    // Archivo: id de la sesion y fecha de archivado
+    private final Map<Long, LocalDateTime> archivedAt = new ConcurrentHashMap<>();
+
+    @Override
+    public Session save(Session session) {
+        Session stored = session.toBuilder().build();
+        if (stored.getId() == null) {
+            stored.setId(sequence.incrementAndGet());
+        }
+        if (stored.getCreatedAt() == null) {
+            stored.setCreatedAt(LocalDateTime.now());
+        }
+        if (stored.getActive() == null) {
+            stored.setActive(true);
+        }
+        byToken.put(stored.getToken(), stored);
+        return copy(stored);
+    }
+
+    @Override
+    public Optional<Session> findByToken(String token) {
+        return Optional.ofNullable(byToken.get(token)).map(InMemorySessionRepository::copy);
+    }
+
+    @Override
+    public Optional<SessionValidation> findValidationByToken(String token) {
+        return Optional.ofNullable(byToken.get(token)).map(SessionValidation::of);
+    }
+
+    @Override
+    public Map<String, SessionValidation> findValidationsByTokens(Collection<String> tokens) {
+        Map<String, SessionValidation> validations = new HashMap<>();
+        for (String token : tokens) {
+            Session session = byToken.get(token);
+            if (session != null) {
+                validations.put(token, SessionValidation.of(session));
+            }
+        }
+        return validations;
+    }
+
+    @Override
+    public List<Session> findAllActive() {
+        return streamAllActive().collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Session> findActivePage(PageCursor after, int limit) {
+        return streamAllActive()
+                .filter(session -> after == null || KEYSET_ORDER.compare(session,
+                        Session.builder().createdAt(after.getCreatedAt()).id(after.getId()).build()) > 0)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countActive() {
+        return byToken.values().stream().filter(Session::isActive).count();
+    }
+
+    @Override
+    public Stream<Session> streamAllActive() {
+        return byToken.values().stream()
+                .filter(Session::isActive)
+                .sorted(KEYSET_ORDER)
+                .map(InMemorySessionRepository::copy);
+    }
+
+    @Override
+    public List<Session> findAllActiveByUserId(Long userId) {
+        return streamAllActive().filter(session -> session.belongsTo(userId)).collect(Collectors.toList());
+    }
+
+    @Override
+    public int deactivateAllByUserId(Long userId) {
+        int deactivated = 0;
+        for (Session session : byToken.values()) {
+            if (session.isActive() && session.belongsTo(userId)) {
+                session.deactivate();
+                deactivated++;
+            }
+        }
+        return deactivated;
+    }
+
+    @Override
+    public int deactivateCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<Session> expired = byToken.values().stream()
+                .filter(session -> session.isActive() && session.getCreatedAt().isBefore(cutoff))
+                .sorted(KEYSET_ORDER)
+                .limit(limit)
+                .collect(Collectors.toList());
+        expired.forEach(Session::deactivate);
+        return expired.size();
+    }
+
+    @Override
+    public int archiveInactiveCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<Session> inactive = byToken.values().stream()
+                .filter(session -> !session.isActive() && session.getCreatedAt().isBefore(cutoff))
+                .sorted(KEYSET_ORDER)
+                .limit(limit)
+                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        for (Session session : inactive) {
+            archivedAt.put(session.getId(), now);
+            byToken.remove(session.getToken());
+        }
+        return inactive.size();
+    }
+
+    @Override
+    public int purgeArchivedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> purged = archivedAt.entrySet().stream()
+                .filter(entry -> entry.getValue().isBefore(cutoff))
+                .sorted(Map.Entry.<Long, LocalDateTime>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        purged.forEach(archivedAt::remove);
+        return purged.size();
+    }
+
+    private static Session copy(Session session) {
+        return session.toBuilder().user(session.getUser().toBuilder().build()).build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.UserRepository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link UserRepository} en memoria para aislar el coste de los servicios del de la base de datos.
+ * Devuelve copias, igual que el adaptador JPA al mapear entidades.
+ */
+class InMemoryUserRepository implements UserRepository {
+
+    private static final Comparator<User> KEYSET_ORDER =
+            Comparator.comparing(User::getCreatedAt).thenComparing(User::getId);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, User> byId = new ConcurrentHashMap<>();
+    private final Map<String, User> byUsername = new ConcurrentHashMap<>();
+
+    @Override
+    public User save(User user) {
+        User stored = user.toBuilder().build();
+        if (stored.getId() == null) {
+            stored.setId(sequence.incrementAndGet());
+        }
+        byId.put(stored.getId(), stored);
+        byUsername.put(stored.getUsername(), stored);
+        return stored.toBuilder().build();
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return users.stream().map(this::save).collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(user -> user.toBuilder().build());
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return Optional.ofNullable(byUsername.get(username)).map(user -> user.toBuilder().build());
+    }
+
+    @Override
+    public List<User> findAll() {
+        return filtered(null, null, null).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<User> findAllWithFilters(String username, User.Role role, Boolean blocked) {
+        return filtered(username, role, blocked).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<User> findPageWithFilters(String username, User.Role role, Boolean blocked, PageCursor after, int limit) {
+        return filtered(username, role, blocked)
+                .filter(user -> after == null || KEYSET_ORDER.compare(user,
+                        User.builder().createdAt(after.getCreatedAt()).id(after.getId()).build()) > 0)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<User> streamAllWithFilters(String username, User.Role role, Boolean blocked) {
+        return filtered(username, role, blocked);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return byUsername.containsKey(username);
+    }
+
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return usernames.stream().filter(byUsername::containsKey).collect(Collectors.toSet());
+    }
+
+    private Stream<User> filtered(String username, User.Role role, Boolean blocked) {
+        return byId.values().stream()
+                .filter(user -> username == null || user.getUsername().startsWith(username))
+                .filter(user -> role == null || role == user.getRole())
+                .filter(user -> blocked == null || blocked.equals(user.getBlocked()))
+                .sorted(KEYSET_ORDER)
+                .map(user -> user.toBuilder().build());
+    }
+}
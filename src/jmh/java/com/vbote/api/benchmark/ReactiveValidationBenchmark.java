@@ -0,0 +1,192 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.application.service.ReactiveSessionService;
+import com.vbote.api.application.service.SessionServlce;
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.ReactiveSessionRepository;
+import com.vbote.api.domain.port.out.ReactiveUserRepository;
+import com.vbote.api.infrastructure.adapter.out.security.BcryptPasswordEncoder;
+import com.vbote.api.infrastructure.adapter.out.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rafaga de {@code requests} validaciones de sesion concurrentes con una base de datos lenta
+ * ({@code dbLatencyMs} por consulta): {@code blocking} las atiende con {@link SessionServlce} en un
+ * pool del tamano del de Tomcat (200 hilos) y {@code reactive} con {@link ReactiveSessionService},
+ * donde la espera a la base de datos no ocupa ningun hilo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReactiveValidationBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"blocking", "reactive"})
+    private String mode;
+
+    @Param("2000")
+    private int requests;
+
+    @Param("10")
+    private long dbLatencyMs;
+
+    private BcryptPasswordEncoder passwordEncoder;
+    private SessionServlce blockingService;
+    private ReactiveSessionService reactiveService;
+    private ExecutorService executor;
+    private List<String> tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = BenchmarkFixtures.passwordEncoder(4);
+        JwtTokenProvider tokenProvider = BenchmarkFixtures.tokenProvider();
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        InMemorySessionRepository sessionRepository = new InMemorySessionRepository();
+
+        List<User> users = userRepository.saveAll(
+                BenchmarkFixtures.users(100, passwordEncoder.encode(BenchmarkFixtures.PASSWORD)));
+        SessionServlce seeding = new SessionServlce(sessionRepository, userRepository, passwordEncoder, tokenProvider);
+        tokens = new ArrayList<>();
+        for (User user : users) {
+            if (user.canLogin()) {
+                tokens.add(seeding.login(user.getUsername(), BenchmarkFixtures.PASSWORD, "127.0.0.1").getToken());
+            }
+        }
+
+        blockingService = new SessionServlce(slowCopyOf(sessionRepository), userRepository,
+                passwordEncoder, tokenProvider);
+        reactiveService = new ReactiveSessionService(new DelayedSessionRepository(sessionRepository, dbLatencyMs),
+                new ReactiveUserRepositoryAdapter(userRepository), passwordEncoder, tokenProvider);
+        executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public long concurrentValidations() throws Exception {
+        if ("reactive".equals(mode)) {
+            Long validated = Flux.range(0, requests)
+                    .flatMap(i -> reactiveService.validateSession(tokens.get(i % tokens.size())), requests)
+                    .count()
+                    .block();
+            return validated != null ? validated : 0;
+        }
+
+        List<Callable<Session>> batch = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            String token = tokens.get(i % tokens.size());
+            batch.add(() -> blockingService.validateSession(token));
+        }
+        long validated = 0;
+        for (Future<Session> result : executor.invokeAll(batch)) {
+            if (result.get() != null) {
+                validated++;
+            }
+        }
+        return validated;
+    }
+
+    private VirtualThreadsBenchmark.SlowSessionRepository slowCopyOf(InMemorySessionRepository source) {
+        VirtualThreadsBenchmark.SlowSessionRepository copy = new VirtualThreadsBenchmark.SlowSessionRepository(dbLatencyMs);
+        source.findAllActive().forEach(copy::save);
+        return copy;
+    }
+
+    /*
+     * La espera es un temporizador: ningun hilo queda bloqueado mientras "responde" la base de datos
+     */
+    static class DelayedSessionRepository implements ReactiveSessionRepository {
+
+        private final InMemorySessionRepository delegate;
+        private final Duration latency;
+
+        DelayedSessionRepository(InMemorySessionRepository delegate, long latencyMs) {
+            this.delegate = delegate;
+            this.latency = Duration.ofMillis(latencyMs);
+        }
+
+        @Override
+        public Mono<Session> save(Session session) {
+            return Mono.delay(latency).map(tick -> delegate.save(session));
+        }
+
+        @Override
+        public Mono<Session> findByToken(String token) {
+            return Mono.delay(latency).flatMap(tick -> Mono.justOrEmpty(delegate.findByToken(token)));
+        }
+
+        @Override
+        public Mono<Boolean> deactivate(Session session) {
+            return Mono.delay(latency).map(tick -> delegate.findByToken(session.getToken())
+                    .filter(Session::isActive)
+                    .map(stored -> {
+                        stored.deactivate();
+                        delegate.save(stored);
+                        return true;
+                    })
+                    .orElse(false));
+        }
+    }
+
+    /*
+     * La validacion no consulta usuarios; sin latencia, basta con envolver el repositorio en memoria
+     */
+    static class ReactiveUserRepositoryAdapter implements ReactiveUserRepository {
+
+        private final InMemoryUserRepository delegate;
+
+        ReactiveUserRepositoryAdapter(InMemoryUserRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Mono<User> findById(Long id) {
+            return Mono.fromCallable(() -> delegate.findById(id)).flatMap(Mono::justOrEmpty);
+        }
+
+        @Override
+        public Mono<User> findByUsername(String username) {
+            return Mono.fromCallable(() -> delegate.findByUsername(username)).flatMap(Mono::justOrEmpty);
+        }
+
+        @Override
+        public Flux<User> findPageWithFilters(String username, User.Role role, Boolean blocked,
+                                              PageCursor after, int limit) {
+            return Flux.defer(() -> Flux.fromIterable(
+                    delegate.findPageWithFilters(username, role, blocked, after, limit)));
+        }
+    }
+}
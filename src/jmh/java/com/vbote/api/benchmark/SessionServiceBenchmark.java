@@ -0,0 +1,90 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.application.service.SessionServlce;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.security.BcryptPasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SessionServlce#validateSession} y {@link SessionServlce#login} sobre puertos en memoria:
+ * mide el servicio, el JWT y BCrypt sin base de datos.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionServiceBenchmark {
+
+    @Param("1000")
+    private int users;
+
+    @Param("4")
+    private int bcryptStrength;
+
+    private BcryptPasswordEncoder passwordEncoder;
+    private SessionServlce sessionService;
+    private String[] usernames;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = BenchmarkFixtures.passwordEncoder(bcryptStrength);
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        sessionService = new SessionServlce(new InMemorySessionRepository(), userRepository,
+                passwordEncoder, BenchmarkFixtures.tokenProvider());
+
+        List<User> seeded = userRepository.saveAll(
+                BenchmarkFixtures.users(users, passwordEncoder.encode(BenchmarkFixtures.PASSWORD)));
+        usernames = seeded.stream().filter(User::canLogin).map(User::getUsername).toArray(String[]::new);
+        tokens = new String[usernames.length];
+        for (int i = 0; i < usernames.length; i++) {
+            tokens[i] = sessionService.login(usernames[i], BenchmarkFixtures.PASSWORD, "127.0.0.1").getToken();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        int next(int size) {
+            int current = next;
+            next = current + 1 == size ? 0 : current + 1;
+            return current;
+        }
+    }
+
+    @Benchmark
+    public Session validateSession(Cursor cursor) {
+        return sessionService.validateSession(tokens[cursor.next(tokens.length)]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Session login(Cursor cursor) {
+        return sessionService.login(usernames[cursor.next(usernames.length)], BenchmarkFixtures.PASSWORD, "127.0.0.1");
+    }
+}
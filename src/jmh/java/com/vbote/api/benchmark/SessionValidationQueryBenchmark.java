@@ -0,0 +1,141 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.VboteApiApplication;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.SessionUseCase;
+import com.vbote.api.domain.port.in.UserUseCase;
+import com.vbote.api.domain.port.out.SessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * La lectura de {@code validateSession} contra H2 sin indice de sesiones, en una transaccion de solo
+ * lectura: {@code entity} es el camino anterior ({@code findByToken}, sesion y usuario como
+ * entidades) y {@code projection} el actual ({@code findValidationByToken}). Al final de cada
+ * iteracion se registran en el log las sentencias SQL y las entidades cargadas por llamada, segun las
+ * estadisticas de Hibernate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@Slf4j
+public class SessionValidationQueryBenchmark {
+
+    @Param("1000")
+    private int users;
+
+    @Param({"entity", "projection"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private SessionRepository sessionRepository;
+    private TransactionTemplate readOnly;
+    private Statistics statistics;
+    private String[] tokens;
+    private final AtomicLong calls = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VboteApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh-validation;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.vbote.api=WARN",
+                        "--logging.level.com.vbote.api.benchmark=INFO",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--vbote.sessions.index.enabled=false",
+                        "--vbote.sessions.expiry.enabled=false",
+                        "--vbote.sessions.archive.enabled=false",
+                        "--vbote.password.bcrypt.strength=4");
+        SessionUseCase sessionUseCase = context.getBean(SessionUseCase.class);
+        sessionRepository = context.getBean(SessionRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        UserUseCase userUseCase = context.getBean(UserUseCase.class);
+        List<User> seeded = BenchmarkFixtures.users(users, BenchmarkFixtures.PASSWORD);
+        seeded.forEach(user -> user.setBlocked(false));
+        userUseCase.importUsers(seeded);
+        tokens = seeded.stream()
+                .map(user -> sessionUseCase.login(user.getUsername(), BenchmarkFixtures.PASSWORD, "127.0.0.1").getToken())
+                .toArray(String[]::new);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        statistics.clear();
+        calls.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void logStatistics() {
+        long count = Math.max(1, calls.get());
+        log.info("{}: {} statements/call, {} entities loaded/call", mode,
+                String.format("%.2f", (double) statistics.getPrepareStatementCount() / count),
+                String.format("%.2f", (double) statistics.getEntityLoadCount() / count));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        int next(int size) {
+            int current = next;
+            next = current + 1 == size ? 0 : current + 1;
+            return current;
+        }
+    }
+
+    @Benchmark
+    public boolean validationLookup(Cursor cursor) {
+        String token = tokens[cursor.next(tokens.length)];
+        calls.incrementAndGet();
+        return Boolean.TRUE.equals(readOnly.execute(status -> {
+            if ("projection".equals(mode)) {
+                SessionValidation validation = sessionRepository.findValidationByToken(token).orElseThrow();
+                return validation.isActive() && validation.canLogin();
+            }
+            Session session = sessionRepository.findByToken(token).orElseThrow();
+            return session.isActive() && session.getUser().canLogin();
+        }));
+    }
+}
@@ -0,0 +1,67 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.application.service.UserService;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.security.BcryptPasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserService#getAllUsers} sobre un repositorio en memoria, con y sin filtros.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int users;
+
+    private BcryptPasswordEncoder passwordEncoder;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = BenchmarkFixtures.passwordEncoder(4);
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        userService = new UserService(userRepository, passwordEncoder);
+        userRepository.saveAll(BenchmarkFixtures.users(users, passwordEncoder.encode(BenchmarkFixtures.PASSWORD)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public List<User> getAllUsers() {
+        return userService.getAllUsers(null, null, null);
+    }
+
+    @Benchmark
+    public List<User> getAllUsersByPrefix() {
+        return userService.getAllUsers("user1", null, null);
+    }
+
+    @Benchmark
+    public List<User> getAllUsersByRoleAndBlocked() {
+        return userService.getAllUsers(null, User.Role.USER, false);
+    }
+}
@@ -0,0 +1,135 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.application.service.SessionServlce;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.security.BcryptPasswordEncoder;
+import com.vbote.api.infrastructure.config.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rafaga de {@code requests} validaciones de sesion concurrentes con una base de datos lenta
+ * ({@code dbLatencyMs} por consulta), atendidas por un pool de plataforma del tamano del de Tomcat
+ * ({@code server.tomcat.threads.max}, 200) o por un hilo virtual por peticion.
+ * <p>
+ * En una JVM sin hilos virtuales el modo {@code virtual} usa el mismo pool que {@code platform}
+ * y ambos resultados coinciden.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@Slf4j
+public class VirtualThreadsBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param("2000")
+    private int requests;
+
+    @Param("10")
+    private long dbLatencyMs;
+
+    private BcryptPasswordEncoder passwordEncoder;
+    private SessionServlce sessionService;
+    private ExecutorService executor;
+    private List<String> tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = BenchmarkFixtures.passwordEncoder(4);
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        sessionService = new SessionServlce(new SlowSessionRepository(dbLatencyMs), userRepository,
+                passwordEncoder, BenchmarkFixtures.tokenProvider());
+
+        List<User> users = userRepository.saveAll(
+                BenchmarkFixtures.users(100, passwordEncoder.encode(BenchmarkFixtures.PASSWORD)));
+        tokens = new ArrayList<>();
+        for (User user : users) {
+            if (user.canLogin()) {
+                Session session = sessionService.login(user.getUsername(), BenchmarkFixtures.PASSWORD, "127.0.0.1");
+                tokens.add(session.getToken());
+            }
+        }
+
+        Optional<ExecutorService> virtual = "virtual".equals(mode)
+                ? VirtualThreads.newThreadPerTaskExecutor("bench-vt-")
+                : Optional.empty();
+        if ("virtual".equals(mode) && virtual.isEmpty()) {
+            log.warn("Virtual threads not supported by Java {}, measuring the platform pool", Runtime.version());
+        }
+        executor = virtual.orElseGet(() -> Executors.newFixedThreadPool(TOMCAT_MAX_THREADS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public int concurrentValidations() throws Exception {
+        List<Callable<Session>> batch = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            String token = tokens.get(i % tokens.size());
+            batch.add(() -> sessionService.validateSession(token));
+        }
+        int validated = 0;
+        for (Future<Session> result : executor.invokeAll(batch)) {
+            if (result.get() != null) {
+                validated++;
+            }
+        }
+        return validated;
+    }
+
+    /*
+     * Cada lectura espera como una consulta JDBC bloqueante
+     */
+    static class SlowSessionRepository extends InMemorySessionRepository {
+
+        private final long latencyMs;
+
+        SlowSessionRepository(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public Optional<SessionValidation> findValidationByToken(String token) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.findValidationByToken(token);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.vbote.api.benchmark;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.in.web.dto.SessionDto;
+import com.vbote.api.infrastructure.adapter.in.web.dto.UserDto;
+import com.vbote.api.infrastructure.adapter.in.web.mapper.SessionWebMapper;
+import com.vbote.api.infrastructure.adapter.in.web.mapper.SessionWebMapperImpl;
+import com.vbote.api.infrastructure.adapter.in.web.mapper.UserWebMapper;
+import com.vbote.api.infrastructure.adapter.in.web.mapper.UserWebMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo de listas de dominio a DTO con los mappers MapStruct generados.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final UserWebMapper userWebMapper = new UserWebMapperImpl();
+    private final SessionWebMapper sessionWebMapper = new SessionWebMapperImpl();
+
+    private List<User> users;
+    private List<Session> sessions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = BenchmarkFixtures.users(size, "encoded_password");
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setId((long) i + 1);
+        }
+        sessions = BenchmarkFixtures.sessions(users);
+    }
+
+    @Benchmark
+    public List<UserDto.Response> userResponseList() {
+        return userWebMapper.toResponseList(users);
+    }
+
+    @Benchmark
+    public List<SessionDto.Response> sessionResponseList() {
+        return sessionWebMapper.toResponseList(sessions);
+    }
+}
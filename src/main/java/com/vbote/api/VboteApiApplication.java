@@ -2,9 +2,10 @@ package com.vbote.api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.boot.web.servlet.ServletComponentScan;
 
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class) // R2DBC solo para el adaptador reactivo, ver ReactiveServerConfig
 @ServletComponentScan // Habilita escaneo de Servlets
 public class VboteApiApplication {
 
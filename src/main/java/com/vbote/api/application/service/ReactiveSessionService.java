@@ -0,0 +1,98 @@
+package com.vbote.api.application.service;
+
+import com.vbote.api.domain.exception.InvalidCredentialsException;
+import com.vbote.api.domain.exception.SessionNotFoundException;
+import com.vbote.api.domain.exception.UserBlockedException;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.ReactiveSessionUseCase;
+import com.vbote.api.domain.port.out.PasswordEncoder;
+import com.vbote.api.domain.port.out.ReactiveSessionRepository;
+import com.vbote.api.domain.port.out.ReactiveUserRepository;
+import com.vbote.api.domain.port.out.TokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mismas reglas que {@link SessionServlce} sobre los puertos reactivos. El BCrypt del login se
+ * calcula en el pool de {@link PasswordEncoder} con {@code matchesAsync}; nada retiene hilos
+ * mientras espera al hash o a la base de datos.
+ */
+@Service
+@ConditionalOnProperty(name = "vbote.reactive.enabled", havingValue = "true")
+@Slf4j
+public class ReactiveSessionService implements ReactiveSessionUseCase {
+
+    private final ReactiveSessionRepository sessionRepository;
+    private final ReactiveUserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenProvider tokenProvider;
+
+    public ReactiveSessionService(ReactiveSessionRepository sessionRepository,
+                                  ReactiveUserRepository userRepository,
+                                  PasswordEncoder passwordEncoder,
+                                  TokenProvider tokenProvider) {
+        this.sessionRepository = sessionRepository;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenProvider = tokenProvider;
+    }
+
+    /*
+     * El rehash de contrasenas con coste antiguo queda para el login bloqueante
+     */
+    @Override
+    public Mono<Session> login(String username, String password, String ipAddress) {
+        log.info("Reactive login attempt for user: {} from IP: {}", username, ipAddress);
+
+        return userRepository.findByUsername(username)
+                .switchIfEmpty(Mono.error(InvalidCredentialsException::new))
+                .flatMap(user -> matches(password, user)
+                        .flatMap(valid -> {
+                            if (!valid) {
+                                log.warn("Invalid password for user: {}", username);
+                                return Mono.error(new InvalidCredentialsException());
+                            }
+                            return sessionRepository.save(Session.builder()
+                                    .user(user)
+                                    .token(tokenProvider.generateToken(user))
+                                    .ipAddress(ipAddress)
+                                    .build());
+                        }))
+                .doOnNext(session -> log.info("Login succesful for user {} session id: {}",
+                        username, session.getId()));
+    }
+
+    private Mono<Boolean> matches(String rawPassword, User user) {
+        // Con el pool saturado falla con ServiceBusyException (503), igual que el login bloqueante
+        return Mono.fromFuture(() -> passwordEncoder.matchesAsync(rawPassword, user.getPassword()));
+    }
+
+    @Override
+    public Mono<Void> logout(String token) {
+        log.info("Reactive logout attempt for token");
+
+        return sessionRepository.findByToken(token)
+                .switchIfEmpty(Mono.error(() -> new SessionNotFoundException(token)))
+                .flatMap(session -> sessionRepository.deactivate(session)
+                        .doOnNext(deactivated -> {
+                            tokenProvider.invalidateToken(token);
+                            log.info("Logout successful for session id: {}", session.getId());
+                        }))
+                .then();
+    }
+
+    @Override
+    public Mono<Session> validateSession(String token) {
+        return Mono.defer(() -> tokenProvider.validateToken(token)
+                        ? sessionRepository.findByToken(token)
+                        : Mono.<Session>empty())
+                .filter(Session::isActive)
+                .switchIfEmpty(Mono.error(() -> new SessionNotFoundException(token)))
+                .flatMap(session -> session.getUser().canLogin()
+                        ? Mono.just(session)
+                        : Mono.error(new UserBlockedException(session.getUser().getUsername())));
+    }
+}
@@ -0,0 +1,43 @@
+package com.vbote.api.application.service;
+
+import com.vbote.api.domain.model.CursorPage;
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.ReactiveUserUseCase;
+import com.vbote.api.domain.port.out.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnProperty(name = "vbote.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserService implements ReactiveUserUseCase {
+
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<User> getUserById(Long id) {
+        log.debug("Getting user by id: {}", id);
+        return userRepository.findById(id);
+    }
+
+    @Override
+    public Mono<CursorPage<User>> getUsersPage(String username, User.Role role, Boolean blocked,
+                                               String cursor, int limit) {
+        log.debug("Getting users page - username: {}, role: {}, blocked: {}, limit: {}",
+                username, role, blocked, limit);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        // decode() lanza InvalidCursorException dentro del defer: llega como error del Mono
+        return Mono.defer(() -> {
+                    PageCursor after = cursor != null && !cursor.isEmpty() ? PageCursor.decode(cursor) : null;
+                    return userRepository.findPageWithFilters(username, role, blocked, after, pageSize + 1)
+                            .collectList();
+                })
+                .map(rows -> CursorPage.of(rows, pageSize, user -> new PageCursor(user.getCreatedAt(), user.getId())));
+    }
+}
@@ -0,0 +1,43 @@
+package com.vbote.api.application.service;
+
+import com.vbote.api.domain.port.in.SessionMaintenanceUseCase;
+import com.vbote.api.domain.port.out.SessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SessionMaintenanceService implements SessionMaintenanceUseCase {
+
+    private final SessionRepository sessionRepository;
+
+    /*
+     * Una transaccion corta por lote: los bloqueos duran lo que tarda un lote, no todo el barrido
+     */
+    @Override
+    public int expireSessions(LocalDateTime cutoff, int batchSize) {
+        int expired = sessionRepository.deactivateCreatedBefore(cutoff, batchSize);
+        log.debug("Expired {} sessions created before {}", expired, cutoff);
+        return expired;
+    }
+
+    @Override
+    public int archiveSessions(LocalDateTime cutoff, int batchSize) {
+        int archived = sessionRepository.archiveInactiveCreatedBefore(cutoff, batchSize);
+        log.debug("Archived {} inactive sessions created before {}", archived, cutoff);
+        return archived;
+    }
+
+    @Override
+    public int purgeArchivedSessions(LocalDateTime cutoff, int batchSize) {
+        int purged = sessionRepository.purgeArchivedBefore(cutoff, batchSize);
+        log.debug("Purged {} sessions archived before {}", purged, cutoff);
+        return purged;
+    }
+}
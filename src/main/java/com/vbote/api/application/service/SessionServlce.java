@@ -1,10 +1,16 @@
 package com.vbote.api.application.service;
 
+import com.vbote.api.domain.exception.BatchTooLargeException;
 import com.vbote.api.domain.exception.InvalidCredentialsException;
+import com.vbote.api.domain.exception.ServiceBusyException;
 import com.vbote.api.domain.exception.SessionNotFoundException;
 import com.vbote.api.domain.exception.UserBlockedException;
 import com.vbote.api.domain.exception.UserNotFoundException;
+import com.vbote.api.domain.model.CursorPage;
+import com.vbote.api.domain.model.PageCursor;
 import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.model.TokenValidation;
 import com.vbote.api.domain.model.User;
 import com.vbote.api.domain.port.in.SessionUseCase;
 import com.vbote.api.domain.port.out.PasswordEncoder;
@@ -16,7 +22,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -45,15 +59,36 @@ public class SessionServlce implements SessionUseCase {
 
         Session session = Session.builder()
                 .user(user)
-                .token("token")
+                .token(token)
                 .ipAddress(ipAddress)
                 .build();
 
         Session savedSession = sessionRepository.save(session);
+
+        // Despues del insert: con group commit la sesion se confirma en otra transaccion, que no
+        // debe esperar al bloqueo de la fila del usuario que tomaria el rehash
+        rehashPasswordIfNeeded(user, password);
         log.info("Login succesful for user {} session id: {}", username, savedSession.getId());
         return  savedSession;
     }
 
+    /*
+     * Actualiza hashes con un coste distinto al calibrado; si el pool de hashing esta saturado
+     * se deja para el siguiente login en lugar de fallar este.
+     */
+    private void rehashPasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+            log.info("Password rehashed for user: {}", user.getUsername());
+        } catch (ServiceBusyException e) {
+            log.warn("Skipping password rehash for user {}: {}", user.getUsername(), e.getMessage());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Session> getActiveSessions() {
@@ -61,6 +96,27 @@ public class SessionServlce implements SessionUseCase {
         return sessionRepository.findAllActive();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Session> getActiveSessionsPage(String cursor, int limit) {
+        log.debug("Getting active sessions page - limit: {}", limit);
+
+        PageCursor after = cursor != null && !cursor.isEmpty() ? PageCursor.decode(cursor) : null;
+        int pageSize = CursorPage.clampLimit(limit);
+
+        List<Session> rows = sessionRepository.findActivePage(after, pageSize + 1);
+        return CursorPage.of(rows, pageSize, session -> new PageCursor(session.getCreatedAt(), session.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachActiveSession(Consumer<Session> action) {
+        log.debug("Streaming all active sessions");
+        try (Stream<Session> sessions = sessionRepository.streamAllActive()) {
+            sessions.forEach(action);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Session> getActiveSessionsByUserId(Long userId) {
@@ -82,6 +138,7 @@ public class SessionServlce implements SessionUseCase {
 
         session.deactivate();
         sessionRepository.save(session);
+        tokenProvider.invalidateToken(token);
         log.info("Logout successful for session id: {}", session.getId());
     }
 
@@ -94,6 +151,7 @@ public class SessionServlce implements SessionUseCase {
         }
 
         int closedSessions = sessionRepository.deactivateAllByUserId(userId);
+        tokenProvider.invalidateUserTokens(userId);
         log.info("Closed {} sessions for user id: {}", closedSessions, userId);
         return closedSessions;
     }
@@ -107,17 +165,54 @@ public class SessionServlce implements SessionUseCase {
             throw new SessionNotFoundException(token);
         }
 
-        Session session = sessionRepository.findByToken(token)
+        // Una sola lectura con lo necesario, sin cargar la sesion ni el usuario completos
+        SessionValidation validation = sessionRepository.findValidationByToken(token)
                 .orElseThrow(() -> new SessionNotFoundException(token));
 
-        if (!session.isActive()) {
+        if (!validation.isActive()) {
             throw new SessionNotFoundException(token);
         }
 
-        if (!session.getUser().canLogin()) {
-            throw new UserBlockedException(session.getUser().getUsername());
+        if (!validation.canLogin()) {
+            throw new UserBlockedException(validation.getUsername());
         }
 
-        return session;
+        return validation.toSession(token);
+    }
+
+    /*
+     * Primero se descartan los JWT invalidos sin tocar la base de datos; los demas se resuelven
+     * con una sola consulta, y los repetidos solo se comprueban una vez.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TokenValidation> validateSessions(Collection<String> tokens) {
+        if (tokens.size() > TokenValidation.MAX_BATCH_SIZE) {
+            throw new BatchTooLargeException(tokens.size(), TokenValidation.MAX_BATCH_SIZE);
+        }
+        log.debug("Validating {} session tokens", tokens.size());
+
+        Set<String> candidates = new HashSet<>();
+        Set<String> rejected = new HashSet<>();
+        for (String token : tokens) {
+            if (token == null || candidates.contains(token) || rejected.contains(token)) {
+                continue;
+            }
+            if (tokenProvider.validateToken(token)) {
+                candidates.add(token);
+            } else {
+                rejected.add(token);
+            }
+        }
+
+        Map<String, SessionValidation> validations = candidates.isEmpty()
+                ? Collections.emptyMap()
+                : sessionRepository.findValidationsByTokens(candidates);
+
+        List<TokenValidation> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(TokenValidation.of(token != null ? validations.get(token) : null));
+        }
+        return results;
     }
 }
@@ -0,0 +1,45 @@
+package com.vbote.api.application.service;
+
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * La parte transaccional de UserService.importUsers: los usuarios llegan ya con el hash hecho,
+ * asi que la transaccion solo dura la comprobacion final de usernames y el saveAll
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UserImportWriter {
+
+    private final UserRepository userRepository;
+
+    /*
+     * Devuelve los usuarios guardados; los que otra importacion creo mientras se hacia el hash no se guardan
+     */
+    public List<User> saveNewUsers(List<User> users) {
+        Set<String> existing = userRepository.findExistingUsernames(
+                users.stream().map(User::getUsername).collect(Collectors.toSet()));
+
+        List<User> newUsers = new ArrayList<>(users.size());
+        for (User user : users) {
+            if (!existing.contains(user.getUsername())) {
+                newUsers.add(user);
+            }
+        }
+        if (newUsers.size() < users.size()) {
+            log.info("{} usernames were created while hashing the batch", users.size() - newUsers.size());
+        }
+        return userRepository.saveAll(newUsers);
+    }
+}
@@ -1,7 +1,10 @@
 package com.vbote.api.application.service;
 
 import com.vbote.api.domain.exception.UserAlreadyExistsException;
+import com.vbote.api.domain.model.CursorPage;
+import com.vbote.api.domain.model.PageCursor;
 import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.model.UserImportResult;
 import com.vbote.api.domain.port.in.UserUseCase;
 import com.vbote.api.domain.port.out.PasswordEncoder;
 import com.vbote.api.domain.port.out.UserRepository;
@@ -9,11 +12,21 @@ import com.vbote.api.domain.port.out.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service  // ESto lo registra como un bean
 @RequiredArgsConstructor
@@ -23,6 +36,7 @@ public class UserService implements UserUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserImportWriter userImportWriter;
 
     @Override
     public User createUser(User user) {
@@ -46,6 +60,59 @@ public class UserService implements UserUseCase {
         return savedUser;
     }
 
+    /*
+     * Cada llamada importa un lote: una consulta para detectar usernames ya existentes y hashing en
+     * paralelo sin transaccion, para no retener una conexion del pool durante el hash; despues
+     * UserImportWriter repite la comprobacion y guarda con un unico saveAll que Hibernate envia en batch.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserImportResult> importUsers(List<User> users) {
+        log.info("Importing batch of {} users", users.size());
+
+        Set<String> existing = userRepository.findExistingUsernames(
+                users.stream().map(User::getUsername).collect(Collectors.toSet()));
+
+        UserImportResult[] results = new UserImportResult[users.size()];
+        Set<String> seen = new HashSet<>();
+        List<Integer> toCreate = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            String username = users.get(i).getUsername();
+            if (existing.contains(username) || !seen.add(username)) {
+                results[i] = UserImportResult.duplicate(username);
+            } else {
+                toCreate.add(i);
+            }
+        }
+
+        List<String> encodedPasswords = passwordEncoder.encodeAll(toCreate.stream()
+                .map(i -> users.get(i).getPassword())
+                .collect(Collectors.toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<User> newUsers = new ArrayList<>(toCreate.size());
+        for (int j = 0; j < toCreate.size(); j++) {
+            User user = users.get(toCreate.get(j));
+            user.setPassword(encodedPasswords.get(j));
+            user.setBlocked(Optional.ofNullable(user.getBlocked()).orElse(false));
+            user.setRole(Optional.ofNullable(user.getRole()).orElse(User.Role.USER));
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            newUsers.add(user);
+        }
+
+        Map<String, User> savedUsers = userImportWriter.saveNewUsers(newUsers).stream()
+                .collect(Collectors.toMap(User::getUsername, Function.identity()));
+        for (int index : toCreate) {
+            String username = users.get(index).getUsername();
+            User saved = savedUsers.get(username);
+            results[index] = saved != null ? UserImportResult.created(saved) : UserImportResult.duplicate(username);
+        }
+
+        log.info("Imported {} of {} users", savedUsers.size(), users.size());
+        return Arrays.asList(results);
+    }
+
     /*
      * Transactional readOnly para optimizar la consulta
      */
@@ -57,6 +124,32 @@ public class UserService implements UserUseCase {
         return userRepository.findAllWithFilters(userName, role, bloqued);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<User> getUsersPage(String userName, User.Role role, Boolean bloqued, String cursor, int limit) {
+        log.debug("Getting users page - username: {}, role: {}, bloqued: {}, limit: {}",
+                userName, role, bloqued, limit);
+
+        PageCursor after = cursor != null && !cursor.isEmpty() ? PageCursor.decode(cursor) : null;
+        int pageSize = CursorPage.clampLimit(limit);
+
+        // Se pide una fila de mas para saber si hay pagina siguiente
+        List<User> rows = userRepository.findPageWithFilters(userName, role, bloqued, after, pageSize + 1);
+        return CursorPage.of(rows, pageSize, user -> new PageCursor(user.getCreatedAt(), user.getId()));
+    }
+
+    /*
+     * El stream se consume dentro de la transaccion: la conexion sigue abierta mientras se recorre
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUser(String userName, User.Role role, Boolean bloqued, Consumer<User> action) {
+        log.debug("Streaming users with filters - username: {}, role: {}, bloqued: {}", userName, role, bloqued);
+        try (Stream<User> users = userRepository.streamAllWithFilters(userName, role, bloqued)) {
+            users.forEach(action);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<User> getUserById(Long id) {
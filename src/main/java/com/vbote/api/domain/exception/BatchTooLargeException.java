@@ -0,0 +1,8 @@
+package com.vbote.api.domain.exception;
+
+public class BatchTooLargeException extends DomainException {
+
+    public BatchTooLargeException(int size, int maxSize) {
+        super("Batch of " + size + " items exceeds the maximum of " + maxSize);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vbote.api.domain.exception;
+
+public class InvalidCursorException extends DomainException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid page cursor: " + cursor);
+    }
+}
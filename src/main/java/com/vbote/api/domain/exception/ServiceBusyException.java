@@ -0,0 +1,8 @@
+package com.vbote.api.domain.exception;
+
+public class ServiceBusyException extends DomainException {
+
+    public ServiceBusyException(String resource) {
+        super("Service is busy, please retry later: " + resource);
+    }
+}
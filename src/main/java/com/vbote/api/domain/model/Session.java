@@ -9,18 +9,30 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Session {
 
     private Long id;
     private User user;
+    /**
+     * Token emitido: solo se conoce al crear la sesion o cuando lo presenta el cliente. Las
+     * sesiones leidas de la base de datos o del indice solo tienen {@link #tokenDigest}.
+     */
     private String token;
+    private TokenDigest tokenDigest;
     private String ipAddress;
     private LocalDateTime createdAt;
     private Boolean active;
 
+    public TokenDigest getTokenDigest() {
+        if (tokenDigest == null && token != null) {
+            tokenDigest = TokenDigest.of(token);
+        }
+        return tokenDigest;
+    }
+
     public void deactivate() {
         this.active = false;
     }
@@ -0,0 +1,53 @@
+package com.vbote.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Lo minimo que necesita validar una sesion: si sigue activa y los datos del usuario que se
+ * devuelven con ella. Se lee en una sola consulta, sin cargar la sesion ni el usuario completos.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class SessionValidation {
+
+    private final Long sessionId;
+    private final Boolean active;
+    private final Long userId;
+    private final String username;
+    private final User.Role role;
+    private final Boolean blocked;
+
+    public static SessionValidation of(Session session) {
+        User user = session.getUser();
+        return new SessionValidation(session.getId(), session.getActive(), user.getId(), user.getUsername(),
+                user.getRole(), user.getBlocked());
+    }
+
+    public boolean isActive() {
+        return Boolean.TRUE.equals(active);
+    }
+
+    public boolean canLogin() {
+        return !Boolean.TRUE.equals(blocked);
+    }
+
+    /**
+     * Sesion con los campos de la validacion; sin IP, fecha de creacion ni hash de contrasena.
+     */
+    public Session toSession(String token) {
+        return Session.builder()
+                .id(sessionId)
+                .token(token)
+                .active(active)
+                .user(User.builder()
+                        .id(userId)
+                        .username(username)
+                        .role(role)
+                        .blocked(blocked)
+                        .build())
+                .build();
+    }
+}
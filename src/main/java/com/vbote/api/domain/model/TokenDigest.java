@@ -0,0 +1,73 @@
+package com.vbote.api.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * SHA-256 de un token de sesion: 32 bytes fijos, que es lo unico que se guarda y se indexa del
+ * token. El token emitido solo lo conoce el cliente; para buscar su sesion se recalcula el digest.
+ */
+public final class TokenDigest {
+
+    public static final int LENGTH = 32;
+
+    private static final MessageDigest SHA_256 = sha256();
+
+    private final byte[] value;
+
+    private TokenDigest(byte[] value) {
+        this.value = value;
+    }
+
+    public static TokenDigest of(String token) {
+        return new TokenDigest(newDigest().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static TokenDigest fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != LENGTH) {
+            throw new IllegalArgumentException("Token digest must be " + LENGTH + " bytes");
+        }
+        return new TokenDigest(bytes.clone());
+    }
+
+    public byte[] toBytes() {
+        return value.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof TokenDigest && Arrays.equals(value, ((TokenDigest) other).value);
+    }
+
+    /*
+     * Los bytes de un SHA-256 ya estan repartidos: basta con los cuatro primeros
+     */
+    @Override
+    public int hashCode() {
+        return (value[0] & 0xff) << 24 | (value[1] & 0xff) << 16 | (value[2] & 0xff) << 8 | value[3] & 0xff;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenDigest[" + String.format("%02x%02x%02x%02x", value[0], value[1], value[2], value[3]) + "...]";
+    }
+
+    // Clonar un MessageDigest ya creado evita buscar el proveedor en cada token
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException e) {
+            return sha256();
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
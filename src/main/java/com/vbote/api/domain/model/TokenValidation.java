@@ -0,0 +1,38 @@
+package com.vbote.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Resultado de validar un token dentro de un lote: el estado y, si hay sesion, el usuario y su rol.
+ * Un token mal formado, caducado, desconocido o de una sesion cerrada queda como {@code NOT_FOUND},
+ * igual que en {@code validateSession}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class TokenValidation {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    public enum Status {
+        VALID, NOT_FOUND, BLOCKED
+    }
+
+    private final Status status;
+    private final Long userId;
+    private final User.Role role;
+
+    public static TokenValidation of(SessionValidation validation) {
+        if (validation == null || !validation.isActive()) {
+            return new TokenValidation(Status.NOT_FOUND, null, null);
+        }
+        Status status = validation.canLogin() ? Status.VALID : Status.BLOCKED;
+        return new TokenValidation(status, validation.getUserId(), validation.getRole());
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
@@ -0,0 +1,33 @@
+package com.vbote.api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+
+    private String username;
+    private Status status;
+    private Long userId;
+    private String message;
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    public static UserImportResult created(User user) {
+        return new UserImportResult(user.getUsername(), Status.CREATED, user.getId(), null);
+    }
+
+    public static UserImportResult duplicate(String username) {
+        return new UserImportResult(username, Status.DUPLICATE, null, "User already exists with username: " + username);
+    }
+}
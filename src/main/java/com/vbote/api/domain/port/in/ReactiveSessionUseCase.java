@@ -0,0 +1,14 @@
+package com.vbote.api.domain.port.in;
+
+import com.vbote.api.domain.model.Session;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSessionUseCase {
+
+    Mono<Session> login(String username, String password, String ipAddress);
+
+    Mono<Void> logout(String token);
+
+    Mono<Session> validateSession(String token);
+
+}
@@ -0,0 +1,13 @@
+package com.vbote.api.domain.port.in;
+
+import com.vbote.api.domain.model.CursorPage;
+import com.vbote.api.domain.model.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserUseCase {
+
+    Mono<User> getUserById(Long id);
+
+    Mono<CursorPage<User>> getUsersPage(String username, User.Role role, Boolean blocked, String cursor, int limit);
+
+}
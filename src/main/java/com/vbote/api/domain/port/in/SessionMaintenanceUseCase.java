@@ -0,0 +1,28 @@
+package com.vbote.api.domain.port.in;
+
+import java.time.LocalDateTime;
+
+public interface SessionMaintenanceUseCase {
+
+    /**
+     * Desactiva como mucho {@code batchSize} sesiones activas creadas antes de {@code cutoff}.
+     *
+     * @return numero de sesiones desactivadas
+     */
+    int expireSessions(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * Mueve al archivo como mucho {@code batchSize} sesiones inactivas creadas antes de {@code cutoff}.
+     *
+     * @return numero de sesiones archivadas
+     */
+    int archiveSessions(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * Borra del archivo como mucho {@code batchSize} sesiones archivadas antes de {@code cutoff}.
+     *
+     * @return numero de sesiones borradas
+     */
+    int purgeArchivedSessions(LocalDateTime cutoff, int batchSize);
+
+}
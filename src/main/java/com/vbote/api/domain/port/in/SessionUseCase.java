@@ -1,8 +1,12 @@
 package com.vbote.api.domain.port.in;
 
+import com.vbote.api.domain.model.CursorPage;
 import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenValidation;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SessionUseCase {
 
@@ -10,6 +14,10 @@ public interface SessionUseCase {
 
     List<Session> getActiveSessions();
 
+    CursorPage<Session> getActiveSessionsPage(String cursor, int limit);
+
+    void forEachActiveSession(Consumer<Session> action);
+
     List<Session> getActiveSessionsByUserId(Long userId);
 
     void logout(String token);
@@ -18,4 +26,9 @@ public interface SessionUseCase {
 
     Session validateSession(String token);
 
+    /**
+     * Valida un lote de tokens con una sola lectura; un resultado por token, en el mismo orden.
+     */
+    List<TokenValidation> validateSessions(Collection<String> tokens);
+
 }
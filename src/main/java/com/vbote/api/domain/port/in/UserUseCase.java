@@ -1,16 +1,28 @@
 package com.vbote.api.domain.port.in;
 
+import com.vbote.api.domain.model.CursorPage;
 import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.model.UserImportResult;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UserUseCase {
 
     User createUser(User user);
 
+    /**
+     * Crea un lote de usuarios; el resultado i corresponde al usuario i del lote.
+     */
+    List<UserImportResult> importUsers(List<User> users);
+
     List<User> getAllUsers(String userName, User.Role role, Boolean bloqued);
 
+    CursorPage<User> getUsersPage(String userName, User.Role role, Boolean bloqued, String cursor, int limit);
+
+    void forEachUser(String userName, User.Role role, Boolean bloqued, Consumer<User> action);
+
     Optional<User> getUserById(Long id);
 
     User updateUser(Long id, User user);
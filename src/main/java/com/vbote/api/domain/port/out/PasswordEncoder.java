@@ -0,0 +1,25 @@
+package com.vbote.api.domain.port.out;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface PasswordEncoder {
+
+    String encode(String rawPassword);
+
+    /**
+     * Codifica varias contrasenas en paralelo; el resultado conserva el orden de entrada.
+     */
+    List<String> encodeAll(List<String> rawPasswords);
+
+    boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Lo mismo que {@link #matches} sin bloquear al llamante. Si no se puede aceptar la
+     * comprobacion, el futuro falla con {@link com.vbote.api.domain.exception.ServiceBusyException}.
+     */
+    CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword);
+
+    boolean needsRehash(String encodedPassword);
+
+}
@@ -0,0 +1,21 @@
+package com.vbote.api.domain.port.out;
+
+import com.vbote.api.domain.model.Session;
+import reactor.core.publisher.Mono;
+
+/**
+ * Version no bloqueante de las operaciones de {@link SessionRepository} que usa el adaptador
+ * reactivo.
+ */
+public interface ReactiveSessionRepository {
+
+    Mono<Session> save(Session session);
+
+    Mono<Session> findByToken(String token);
+
+    /**
+     * @return {@code true} si la sesion seguia activa y se ha desactivado
+     */
+    Mono<Boolean> deactivate(Session session);
+
+}
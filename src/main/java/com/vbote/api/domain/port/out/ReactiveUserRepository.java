@@ -0,0 +1,19 @@
+package com.vbote.api.domain.port.out;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Version no bloqueante de las lecturas de {@link UserRepository} que usa el adaptador reactivo.
+ */
+public interface ReactiveUserRepository {
+
+    Mono<User> findById(Long id);
+
+    Mono<User> findByUsername(String username);
+
+    Flux<User> findPageWithFilters(String username, User.Role role, Boolean blocked, PageCursor after, int limit);
+
+}
@@ -0,0 +1,63 @@
+package com.vbote.api.domain.port.out;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface SessionRepository {
+
+    Session save(Session session);
+
+    Optional<Session> findByToken(String token);
+
+    /**
+     * Datos para validar la sesion del token en una sola lectura indexada.
+     */
+    Optional<SessionValidation> findValidationByToken(String token);
+
+    /**
+     * Lo mismo que {@link #findValidationByToken} para varios tokens en una sola consulta. Los
+     * tokens sin sesion no aparecen en el mapa.
+     */
+    Map<String, SessionValidation> findValidationsByTokens(Collection<String> tokens);
+
+    List<Session> findAllActive();
+
+    List<Session> findActivePage(PageCursor after, int limit);
+
+    long countActive();
+
+    /**
+     * Recorre las sesiones activas sin cargarlas todas en memoria. Debe consumirse y cerrarse
+     * dentro de una transaccion.
+     */
+    Stream<Session> streamAllActive();
+
+    List<Session> findAllActiveByUserId(Long userId);
+
+    int deactivateAllByUserId(Long userId);
+
+    int deactivateCreatedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Mueve como mucho {@code limit} sesiones inactivas creadas antes de {@code cutoff} al archivo.
+     *
+     * @return numero de sesiones archivadas
+     */
+    int archiveInactiveCreatedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Borra como mucho {@code limit} sesiones archivadas antes de {@code cutoff}.
+     *
+     * @return numero de sesiones borradas
+     */
+    int purgeArchivedBefore(LocalDateTime cutoff, int limit);
+
+}
@@ -0,0 +1,17 @@
+package com.vbote.api.domain.port.out;
+
+import com.vbote.api.domain.model.User;
+
+public interface TokenProvider {
+
+    String generateToken(User user);
+
+    boolean validateToken(String token);
+
+    String getUsernameFromToken(String token);
+
+    void invalidateToken(String token);
+
+    void invalidateUserTokens(Long userId);
+
+}
@@ -0,0 +1,38 @@
+package com.vbote.api.domain.port.out;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface UserRepository {
+
+    User save(User user);
+
+    List<User> saveAll(List<User> users);
+
+    Optional<User> findById(Long id);
+
+    Optional<User> findByUsername(String username);
+
+    List<User> findAll();
+
+    List<User> findAllWithFilters(String username, User.Role role, Boolean blocked);
+
+    List<User> findPageWithFilters(String username, User.Role role, Boolean blocked, PageCursor after, int limit);
+
+    /**
+     * Recorre los usuarios sin cargarlos todos en memoria. Debe consumirse y cerrarse dentro de
+     * una transaccion.
+     */
+    Stream<User> streamAllWithFilters(String username, User.Role role, Boolean blocked);
+
+    boolean existsByUsername(String username);
+
+    Set<String> findExistingUsernames(Collection<String> usernames);
+
+}
@@ -0,0 +1,54 @@
+package com.vbote.api.infrastructure.adapter.in.scheduler;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Ejecuta un lote tras otro mientras vengan llenos, con una pausa entre lotes y un maximo de
+ * lotes por pasada. Lleva la cuenta aunque un lote falle a mitad de pasada.
+ */
+final class PacedBatches {
+
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMs;
+
+    private int total;
+    private int batches;
+
+    PacedBatches(int batchSize, int maxBatches, long pauseMs) {
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMs = pauseMs;
+    }
+
+    PacedBatches run(IntSupplier batch) {
+        int processed;
+        do {
+            processed = batch.getAsInt();
+            total += processed;
+            batches++;
+        } while (processed == batchSize && batches < maxBatches && pause());
+        return this;
+    }
+
+    int getTotal() {
+        return total;
+    }
+
+    int getBatches() {
+        return batches;
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.vbote.api.infrastructure.adapter.in.scheduler;
+
+import com.vbote.api.domain.port.in.SessionMaintenanceUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Mueve las sesiones inactivas a {@code sessions_archive} y purga el archivo pasada la retencion.
+ * <p>
+ * Se archivan las sesiones inactivas creadas hace mas de {@code archive-after-hours}; las archivadas
+ * hace mas de {@code retention-days} se borran. Ambas fases van por lotes como el barrido de
+ * caducidad, de modo que la tabla {@code sessions} crece con las sesiones concurrentes y no con
+ * todas las creadas.
+ */
+@Component
+@ConditionalOnProperty(name = "vbote.sessions.archive.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SessionArchiveScheduler {
+
+    private final SessionMaintenanceUseCase sessionMaintenanceUseCase;
+    private final long archiveAfterHours;
+    private final long retentionDays;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMs;
+
+    private final Counter archivedCounter;
+    private final Counter purgedCounter;
+    private final Timer passTimer;
+
+    public SessionArchiveScheduler(SessionMaintenanceUseCase sessionMaintenanceUseCase,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${vbote.sessions.archive.archive-after-hours:24}") long archiveAfterHours,
+                                   @Value("${vbote.sessions.archive.retention-days:90}") long retentionDays,
+                                   @Value("${vbote.sessions.archive.batch-size:500}") int batchSize,
+                                   @Value("${vbote.sessions.archive.max-batches:100}") int maxBatches,
+                                   @Value("${vbote.sessions.archive.pause-ms:50}") long pauseMs) {
+        this.sessionMaintenanceUseCase = sessionMaintenanceUseCase;
+        this.archiveAfterHours = archiveAfterHours;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMs = pauseMs;
+
+        this.archivedCounter = Counter.builder("sessions.archive.archived")
+                .description("Inactive sessions moved to the archive table")
+                .register(meterRegistry);
+        this.purgedCounter = Counter.builder("sessions.archive.purged")
+                .description("Archived sessions deleted after the retention window")
+                .register(meterRegistry);
+        this.passTimer = Timer.builder("sessions.archive.pass")
+                .description("Duration of a full archive and purge pass")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${vbote.sessions.archive.interval-ms:3600000}",
+            initialDelayString = "${vbote.sessions.archive.initial-delay-ms:300000}")
+    public void archive() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            LocalDateTime archiveCutoff = now.minusHours(archiveAfterHours);
+            PacedBatches archived = runPhase("archive", () -> {
+                int moved = sessionMaintenanceUseCase.archiveSessions(archiveCutoff, batchSize);
+                archivedCounter.increment(moved);
+                return moved;
+            });
+
+            LocalDateTime purgeCutoff = now.minusDays(retentionDays);
+            PacedBatches purged = runPhase("purge", () -> {
+                int deleted = sessionMaintenanceUseCase.purgeArchivedSessions(purgeCutoff, batchSize);
+                purgedCounter.increment(deleted);
+                return deleted;
+            });
+
+            if (archived.getTotal() > 0 || purged.getTotal() > 0) {
+                log.info("Session archive pass moved {} sessions and purged {} ({} ms)",
+                        archived.getTotal(), purged.getTotal(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } finally {
+            passTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /*
+     * Un fallo en una fase no impide la siguiente: la purga no depende de lo archivado en esta pasada
+     */
+    private PacedBatches runPhase(String phase, IntSupplier batch) {
+        PacedBatches pass = new PacedBatches(batchSize, maxBatches, pauseMs);
+        try {
+            pass.run(batch);
+        } catch (RuntimeException e) {
+            log.error("Session {} phase failed after {} sessions", phase, pass.getTotal(), e);
+        }
+        return pass;
+    }
+}
@@ -0,0 +1,84 @@
+package com.vbote.api.infrastructure.adapter.in.scheduler;
+
+import com.vbote.api.domain.port.in.SessionMaintenanceUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Desactiva periodicamente las sesiones cuyo JWT ya ha caducado ({@code jwt.expiration-ms}).
+ * <p>
+ * Cada pasada procesa lotes de {@code batch-size} filas, cada uno en su propia transaccion, con una
+ * pausa de {@code pause-ms} entre lotes y como mucho {@code max-batches} lotes por pasada.
+ */
+@Component
+@ConditionalOnProperty(name = "vbote.sessions.expiry.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SessionExpiryScheduler {
+
+    private final SessionMaintenanceUseCase sessionMaintenanceUseCase;
+    private final long expirationMs;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMs;
+
+    private final Counter sweptCounter;
+    private final Timer passTimer;
+    private final AtomicInteger lastPassSwept = new AtomicInteger();
+
+    public SessionExpiryScheduler(SessionMaintenanceUseCase sessionMaintenanceUseCase,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.expiration-ms}") long expirationMs,
+                                  @Value("${vbote.sessions.expiry.batch-size:500}") int batchSize,
+                                  @Value("${vbote.sessions.expiry.max-batches:100}") int maxBatches,
+                                  @Value("${vbote.sessions.expiry.pause-ms:50}") long pauseMs) {
+        this.sessionMaintenanceUseCase = sessionMaintenanceUseCase;
+        this.expirationMs = expirationMs;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMs = pauseMs;
+
+        this.sweptCounter = Counter.builder("sessions.expiry.swept")
+                .description("Sessions deactivated because their token expired")
+                .register(meterRegistry);
+        this.passTimer = Timer.builder("sessions.expiry.pass")
+                .description("Duration of a full expiry pass")
+                .register(meterRegistry);
+        meterRegistry.gauge("sessions.expiry.last-pass.swept", lastPassSwept);
+    }
+
+    @Scheduled(fixedDelayString = "${vbote.sessions.expiry.interval-ms:60000}",
+            initialDelayString = "${vbote.sessions.expiry.initial-delay-ms:60000}")
+    public void sweep() {
+        long start = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(expirationMs));
+
+        PacedBatches pass = new PacedBatches(batchSize, maxBatches, pauseMs);
+        try {
+            pass.run(() -> {
+                int swept = sessionMaintenanceUseCase.expireSessions(cutoff, batchSize);
+                sweptCounter.increment(swept);
+                return swept;
+            });
+        } catch (RuntimeException e) {
+            log.error("Session expiry pass failed after {} sessions", pass.getTotal(), e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            passTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            lastPassSwept.set(pass.getTotal());
+            if (pass.getTotal() > 0) {
+                log.info("Session expiry pass deactivated {} sessions in {} batches ({} ms)",
+                        pass.getTotal(), pass.getBatches(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.vbote.api.infrastructure.adapter.in.web.controller;
 
+import com.vbote.api.domain.model.CursorPage;
 import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenValidation;
 import com.vbote.api.domain.port.in.SessionUseCase;
+import com.vbote.api.infrastructure.adapter.in.web.dto.CursorPageResponse;
 import com.vbote.api.infrastructure.adapter.in.web.dto.SessionDto;
 import com.vbote.api.infrastructure.adapter.in.web.mapper.SessionWebMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,12 +43,19 @@ public class SessionController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all active sessions")
-    public ResponseEntity<List<SessionDto.Response>> getActiveSessions() {
-        log.debug("REST request to get all active sessions");
-
-        List<Session> sessions = sessionUseCase.getActiveSessions();
-        return ResponseEntity.ok(mapper.toResponseList(sessions));
+    @Operation(summary = "Get active sessions, one page at a time")
+    public ResponseEntity<CursorPageResponse<SessionDto.Response>> getActiveSessions(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of sessions in the page (1-500)")
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_LIMIT) int limit) {
+        log.debug("REST request to get active sessions page");
+
+        CursorPage<Session> page = sessionUseCase.getActiveSessionsPage(cursor, limit);
+        return ResponseEntity.ok(CursorPageResponse.<SessionDto.Response>builder()
+                .items(mapper.toResponseList(page.getItems()))
+                .nextCursor(page.getNextCursor())
+                .build());
     }
 
     @GetMapping("/user/{userId}")
@@ -74,6 +84,16 @@ public class SessionController {
                 .build());
     }
 
+    @PostMapping("/validate:batch")
+    @Operation(summary = "Validate a batch of session tokens in one request")
+    public ResponseEntity<SessionDto.BatchValidateResponse> validateSessions(
+            @Valid @RequestBody SessionDto.BatchValidateRequest request) {
+        log.debug("REST request to validate {} session tokens", request.getTokens().size());
+
+        List<TokenValidation> validations = sessionUseCase.validateSessions(request.getTokens());
+        return ResponseEntity.ok(mapper.toBatchValidateResponse(validations));
+    }
+
     @DeleteMapping("/user/{userId}")
     @Operation(summary = "Close all sessions for a user")
     public ResponseEntity<SessionDto.LogoutResponse> closeAllUserSessions(
@@ -1,8 +1,13 @@
 package com.vbote.api.infrastructure.adapter.in.web.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vbote.api.domain.exception.UserNotFoundException;
+import com.vbote.api.domain.model.CursorPage;
 import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.model.UserImportResult;
 import com.vbote.api.domain.port.in.UserUseCase;
+import com.vbote.api.infrastructure.adapter.in.web.dto.CursorPageResponse;
 import com.vbote.api.infrastructure.adapter.in.web.dto.UserDto;
 import com.vbote.api.infrastructure.adapter.in.web.mapper.UserWebMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,12 +15,23 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/users")
@@ -26,6 +42,11 @@ public class UserController {
 
     private final UserUseCase userUseCase;
     private final UserWebMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${vbote.users.import.chunk-size:500}")
+    private int importChunkSize;
 
     @PostMapping
     @Operation(summary = "Create a new user")
@@ -40,15 +61,106 @@ public class UserController {
                 .body(mapper.toResponse(createdUser));
     }
 
+    /*
+     * Lee el NDJSON linea a linea y lo importa por lotes de importChunkSize, de modo que nunca hay
+     * mas de un lote de usuarios en memoria. Los lotes ya importados no se deshacen si falla otro.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Bulk import users from NDJSON, one create request per line")
+    public ResponseEntity<List<UserDto.ImportResult>> importUsers(HttpServletRequest httpRequest)
+            throws IOException {
+        log.info("REST request to import users");
+
+        List<UserDto.ImportResult> results = new ArrayList<>();
+        List<User> chunk = new ArrayList<>(importChunkSize);
+        List<Integer> chunkLines = new ArrayList<>(importChunkSize);
+
+        try (BufferedReader reader = httpRequest.getReader()) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+
+                UserDto.CreateRequest request;
+                try {
+                    request = objectMapper.readValue(line, UserDto.CreateRequest.class);
+                } catch (JsonProcessingException e) {
+                    results.add(invalidLine(lineNumber, null, "Malformed JSON"));
+                    continue;
+                }
+
+                Set<ConstraintViolation<UserDto.CreateRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    String message = violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining(", "));
+                    results.add(invalidLine(lineNumber, request.getUsername(), message));
+                    continue;
+                }
+
+                chunk.add(mapper.toDomain(request));
+                chunkLines.add(lineNumber);
+                if (chunk.size() >= importChunkSize) {
+                    importChunk(chunk, chunkLines, results);
+                }
+            }
+        }
+        importChunk(chunk, chunkLines, results);
+
+        results.sort(Comparator.comparingInt(UserDto.ImportResult::getLine));
+        return ResponseEntity.ok(results);
+    }
+
+    private void importChunk(List<User> chunk, List<Integer> chunkLines, List<UserDto.ImportResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            List<UserImportResult> imported = userUseCase.importUsers(chunk);
+            for (int i = 0; i < imported.size(); i++) {
+                results.add(mapper.toImportResult(imported.get(i), chunkLines.get(i)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to import chunk of {} users starting at line {}", chunk.size(), chunkLines.get(0), e);
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(UserDto.ImportResult.builder()
+                        .line(chunkLines.get(i))
+                        .username(chunk.get(i).getUsername())
+                        .status(UserImportResult.Status.FAILED.name())
+                        .message(e.getMessage())
+                        .build());
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private UserDto.ImportResult invalidLine(int line, String username, String message) {
+        return UserDto.ImportResult.builder()
+                .line(line)
+                .username(username)
+                .status(UserImportResult.Status.INVALID.name())
+                .message(message)
+                .build();
+    }
+
     @GetMapping
-    @Operation(summary = "Get all users with optional filters")
-    public ResponseEntity<List<UserDto.Response>> getAllUsers(
-            @Parameter(description = "Filter by username (partial match)")
+    @Operation(summary = "Get users with optional filters, one page at a time")
+    public ResponseEntity<CursorPageResponse<UserDto.Response>> getAllUsers(
+            @Parameter(description = "Filter by username prefix")
             @RequestParam(required = false) String username,
             @Parameter(description = "Filter by role (ADMIN or USER)")
             @RequestParam(required = false) String role,
             @Parameter(description = "Filter by blocked status")
-            @RequestParam(required = false) Boolean blocked) {
+            @RequestParam(required = false) Boolean blocked,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of users in the page (1-500)")
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_LIMIT) int limit) {
         log.debug("REST request to get all users with filters");
 
         User.Role userRole = null;
@@ -60,8 +172,11 @@ public class UserController {
             }
         }
 
-        List<User> users = userUseCase.getAllUsers(username, userRole, blocked);
-        return ResponseEntity.ok(mapper.toResponseList(users));
+        CursorPage<User> page = userUseCase.getUsersPage(username, userRole, blocked, cursor, limit);
+        return ResponseEntity.ok(CursorPageResponse.<UserDto.Response>builder()
+                .items(mapper.toResponseList(page.getItems()))
+                .nextCursor(page.getNextCursor())
+                .build());
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,21 @@
+package com.vbote.api.infrastructure.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    private List<T> items;
+    private String nextCursor;
+
+}
@@ -5,8 +5,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import com.vbote.api.domain.model.TokenValidation;
+
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class SessionDto {
 
@@ -56,4 +61,33 @@ public class SessionDto {
         private int sessionsClosedCount;
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchValidateRequest {
+        @NotEmpty(message = "Tokens are required")
+        @Size(max = TokenValidation.MAX_BATCH_SIZE, message = "At most " + TokenValidation.MAX_BATCH_SIZE + " tokens per batch")
+        private List<String> tokens;
+    }
+
+    // Un resultado por token, en el orden de la peticion
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchValidateResponse {
+        private List<TokenValidationResponse> results;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TokenValidationResponse {
+        private String status;
+        private Long userId;
+        private String role;
+    }
+
 }
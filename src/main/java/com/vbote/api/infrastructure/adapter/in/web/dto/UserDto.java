@@ -43,6 +43,18 @@ public class UserDto {
         private Boolean blocked;
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportResult {
+        private int line;
+        private String username;
+        private String status;
+        private Long id;
+        private String message;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -1,11 +1,13 @@
 package com.vbote.api.infrastructure.adapter.in.web.mapper;
 
 import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenValidation;
 import com.vbote.api.infrastructure.adapter.in.web.dto.SessionDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Mapper(componentModel = "spring")
@@ -23,6 +25,14 @@ public interface SessionWebMapper {
     @Mapping(target = "expiresAt", expression = "java(calculateExpiresAt(session))")
     SessionDto.LoginResponse toLoginResponse(Session session);
 
+    SessionDto.TokenValidationResponse toTokenValidationResponse(TokenValidation validation);
+
+    default SessionDto.BatchValidateResponse toBatchValidateResponse(List<TokenValidation> validations) {
+        List<SessionDto.TokenValidationResponse> results = new ArrayList<>(validations.size());
+        validations.forEach(validation -> results.add(toTokenValidationResponse(validation)));
+        return SessionDto.BatchValidateResponse.builder().results(results).build();
+    }
+
     default LocalDateTime calculateExpiresAt(Session session) {
         return session.getCreatedAt().plusHours(24);
     }
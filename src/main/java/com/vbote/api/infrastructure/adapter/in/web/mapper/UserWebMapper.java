@@ -1,6 +1,7 @@
 package com.vbote.api.infrastructure.adapter.in.web.mapper;
 
 import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.model.UserImportResult;
 import com.vbote.api.infrastructure.adapter.in.web.dto.UserDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -28,6 +29,13 @@ public interface UserWebMapper {
 
     List<UserDto.Response> toResponseList(List<User> users);
 
+    @Mapping(target = "line", source = "line")
+    @Mapping(target = "username", source = "result.username")
+    @Mapping(target = "status", source = "result.status")
+    @Mapping(target = "id", source = "result.userId")
+    @Mapping(target = "message", source = "result.message")
+    UserDto.ImportResult toImportResult(UserImportResult result, int line);
+
     default User.Role mapRoleToDomain(String role) {
         if (role == null || role.isEmpty()) {
             return User.Role.USER;
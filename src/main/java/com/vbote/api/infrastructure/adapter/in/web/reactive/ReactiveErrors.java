@@ -0,0 +1,71 @@
+package com.vbote.api.infrastructure.adapter.in.web.reactive;
+
+import com.vbote.api.domain.exception.DomainException;
+import com.vbote.api.domain.exception.InvalidCredentialsException;
+import com.vbote.api.domain.exception.ServiceBusyException;
+import com.vbote.api.domain.exception.SessionNotFoundException;
+import com.vbote.api.domain.exception.UnauthorizedException;
+import com.vbote.api.domain.exception.UserAlreadyExistsException;
+import com.vbote.api.domain.exception.UserBlockedException;
+import com.vbote.api.domain.exception.UserNotFoundException;
+import com.vbote.api.infrastructure.adapter.in.web.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mismos codigos y cuerpo de error que {@code GlobalExceptionHandler} para las rutas reactivas.
+ */
+@Slf4j
+final class ReactiveErrors {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private ReactiveErrors() {
+    }
+
+    static Mono<ServerResponse> toResponse(Throwable error, ServerRequest request) {
+        if (error instanceof UserNotFoundException || error instanceof SessionNotFoundException) {
+            return respond(HttpStatus.NOT_FOUND, error.getMessage(), request);
+        }
+        if (error instanceof UserAlreadyExistsException) {
+            return respond(HttpStatus.CONFLICT, error.getMessage(), request);
+        }
+        if (error instanceof InvalidCredentialsException || error instanceof UnauthorizedException) {
+            return respond(HttpStatus.UNAUTHORIZED, error.getMessage(), request);
+        }
+        if (error instanceof UserBlockedException) {
+            return respond(HttpStatus.FORBIDDEN, error.getMessage(), request);
+        }
+        if (error instanceof ServiceBusyException) {
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .bodyValue(body(HttpStatus.SERVICE_UNAVAILABLE, error.getMessage(), request));
+        }
+        if (error instanceof DomainException) {
+            return respond(HttpStatus.BAD_REQUEST, error.getMessage(), request);
+        }
+        log.error("Error in reactive route {}", request.path(), error);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, error.getMessage(), request);
+    }
+
+    static Mono<ServerResponse> respond(HttpStatus status, String message, ServerRequest request) {
+        return ServerResponse.status(status).bodyValue(body(status, message, request));
+    }
+
+    private static ErrorResponse body(HttpStatus status, String message, ServerRequest request) {
+        log.debug("Request {} failed with {}: {}", request.path(), status.value(), message);
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.path())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.vbote.api.infrastructure.adapter.in.web.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Servidor Reactor Netty para las rutas reactivas, independiente del Tomcat de la API.
+ * <p>
+ * Un punado de hilos de event loop atiende todas las conexiones: ningun handler puede bloquear,
+ * por eso el BCrypt va a su propio scheduler acotado.
+ */
+@Slf4j
+public class ReactiveHttpServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private final int eventLoopThreads;
+    private LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    /**
+     * @param eventLoopThreads hilos de event loop; 0 usa los de Reactor Netty por defecto
+     */
+    public ReactiveHttpServer(HttpHandler httpHandler, int port, int eventLoopThreads) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads;
+    }
+
+    @Override
+    public void start() {
+        HttpServer httpServer = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler));
+        if (eventLoopThreads > 0) {
+            loopResources = LoopResources.create("reactive-http", eventLoopThreads, true);
+            httpServer = httpServer.runOn(loopResources);
+        }
+        server = httpServer.bindNow();
+        log.info("Reactive HTTP server started on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow();
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.disposeLater().block();
+            loopResources = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Puerto en el que escucha; con {@code port} 0 es el que haya asignado el sistema.
+     */
+    public int getPort() {
+        DisposableServer running = server;
+        return running != null ? running.port() : port;
+    }
+}
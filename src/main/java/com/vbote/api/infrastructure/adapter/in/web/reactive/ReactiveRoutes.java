@@ -0,0 +1,29 @@
+package com.vbote.api.infrastructure.adapter.in.web.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Rutas funcionales del adaptador reactivo, servidas por {@link ReactiveHttpServer} en su propio
+ * puerto.
+ */
+@Configuration
+@ConditionalOnProperty(name = "vbote.reactive.enabled", havingValue = "true")
+public class ReactiveRoutes {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveRouterFunction(ReactiveUserHandler userHandler,
+                                                                 ReactiveSessionHandler sessionHandler) {
+        return RouterFunctions.route()
+                .GET("/reactive/users", userHandler::getUsers)
+                .GET("/reactive/users/{id}", userHandler::getUserById)
+                .POST("/reactive/sessions/login", sessionHandler::login)
+                .POST("/reactive/sessions/logout", sessionHandler::logout)
+                .GET("/reactive/sessions/validate", sessionHandler::validate)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.vbote.api.infrastructure.adapter.in.web.reactive;
+
+import com.vbote.api.domain.port.in.ReactiveSessionUseCase;
+import com.vbote.api.infrastructure.adapter.in.web.dto.SessionDto;
+import com.vbote.api.infrastructure.adapter.in.web.mapper.SessionWebMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+@Component
+@ConditionalOnProperty(name = "vbote.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveSessionHandler {
+
+    private final ReactiveSessionUseCase sessionUseCase;
+    private final SessionWebMapper mapper;
+
+    // POST /reactive/sessions/login
+    public Mono<ServerResponse> login(ServerRequest request) {
+        String ipAddress = getClientIpAddress(request);
+        return request.bodyToMono(SessionDto.LoginRequest.class)
+                .filter(body -> isPresent(body.getUsername()) && isPresent(body.getPassword()))
+                .flatMap(body -> sessionUseCase.login(body.getUsername(), body.getPassword(), ipAddress)
+                        .flatMap(session -> ServerResponse.ok().bodyValue(mapper.toLoginResponse(session))))
+                .switchIfEmpty(Mono.defer(() -> ReactiveErrors.respond(HttpStatus.BAD_REQUEST,
+                        "Username and password are required", request)))
+                .onErrorResume(error -> ReactiveErrors.toResponse(error, request));
+    }
+
+    // GET /reactive/sessions/validate
+    public Mono<ServerResponse> validate(ServerRequest request) {
+        String token = extractToken(request.headers().firstHeader(HttpHeaders.AUTHORIZATION));
+        return sessionUseCase.validateSession(token)
+                .flatMap(session -> ServerResponse.ok().bodyValue(mapper.toResponse(session)))
+                .onErrorResume(error -> ReactiveErrors.toResponse(error, request));
+    }
+
+    // POST /reactive/sessions/logout
+    public Mono<ServerResponse> logout(ServerRequest request) {
+        String token = extractToken(request.headers().firstHeader(HttpHeaders.AUTHORIZATION));
+        return sessionUseCase.logout(token)
+                .then(Mono.defer(() -> ServerResponse.ok().bodyValue(SessionDto.LogoutResponse.builder()
+                        .message("Logout successful")
+                        .sessionsClosedCount(1)
+                        .build())))
+                .onErrorResume(error -> ReactiveErrors.toResponse(error, request));
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private String extractToken(String authHeader) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        return authHeader;
+    }
+
+    private String getClientIpAddress(ServerRequest request) {
+        String xForwardedFor = request.headers().firstHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+        String xRealIp = request.headers().firstHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+        return request.remoteAddress()
+                .map(InetSocketAddress::getAddress)
+                .map(InetAddress::getHostAddress)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.vbote.api.infrastructure.adapter.in.web.reactive;
+
+import com.vbote.api.domain.exception.UserNotFoundException;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.ReactiveUserUseCase;
+import com.vbote.api.infrastructure.adapter.in.web.dto.CursorPageResponse;
+import com.vbote.api.infrastructure.adapter.in.web.dto.UserDto;
+import com.vbote.api.infrastructure.adapter.in.web.mapper.UserWebMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "vbote.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserHandler {
+
+    private final ReactiveUserUseCase userUseCase;
+    private final UserWebMapper mapper;
+
+    // GET /reactive/users?username=&role=&blocked=&cursor=&limit=
+    public Mono<ServerResponse> getUsers(ServerRequest request) {
+        String username = request.queryParam("username").orElse(null);
+        Boolean blocked = request.queryParam("blocked").map(Boolean::parseBoolean).orElse(null);
+        User.Role role = parseRole(request.queryParam("role").orElse(null));
+        int limit = parseLimit(request.queryParam("limit").orElse(null));
+
+        return userUseCase.getUsersPage(username, role, blocked, request.queryParam("cursor").orElse(null), limit)
+                .flatMap(page -> ServerResponse.ok().bodyValue(CursorPageResponse.<UserDto.Response>builder()
+                        .items(mapper.toResponseList(page.getItems()))
+                        .nextCursor(page.getNextCursor())
+                        .build()))
+                .onErrorResume(error -> ReactiveErrors.toResponse(error, request));
+    }
+
+    // GET /reactive/users/{id}
+    public Mono<ServerResponse> getUserById(ServerRequest request) {
+        Long id;
+        try {
+            id = Long.parseLong(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return ReactiveErrors.respond(HttpStatus.BAD_REQUEST, "Invalid user ID format", request);
+        }
+        return userUseCase.getUserById(id)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(id)))
+                .flatMap(user -> ServerResponse.ok().bodyValue(mapper.toResponse(user)))
+                .onErrorResume(error -> ReactiveErrors.toResponse(error, request));
+    }
+
+    private User.Role parseRole(String role) {
+        if (role == null || role.isEmpty()) {
+            return null;
+        }
+        try {
+            return User.Role.valueOf(role.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid role filter: {}", role);
+            return null;
+        }
+    }
+
+    private int parseLimit(String limit) {
+        if (limit == null || limit.isEmpty()) {
+            return CursorPageResponse.DEFAULT_LIMIT;
+        }
+        try {
+            return Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid limit: {}", limit);
+            return CursorPageResponse.DEFAULT_LIMIT;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.vbote.api.infrastructure.adapter.in.web.servlet;
+
+import com.vbote.api.domain.exception.BatchTooLargeException;
+import com.vbote.api.domain.exception.InvalidCursorException;
+import com.vbote.api.domain.exception.ServiceBusyException;
+import com.vbote.api.infrastructure.config.VirtualThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ejecuta las llamadas a los casos de uso de los servlets fuera del hilo del contenedor, con la
+ * peticion en modo asincrono y un limite de llamadas en curso.
+ * <p>
+ * El hilo de Tomcat solo lee la peticion y vuelve al contenedor; la llamada corre aparte y
+ * escribe la respuesta al terminar. Asi un login lento (BCrypt e insercion) no retiene hilos del
+ * contenedor que necesitan las consultas rapidas.
+ * <p>
+ * Con {@code vbote.threads.virtual.enabled} y una JVM con hilos virtuales, cada llamada corre en
+ * su propio hilo virtual y un semaforo de {@code threads + queue-capacity} permisos limita las que
+ * hay en curso. Si no, corren en un pool de plataforma de {@code threads} hilos con una cola de
+ * {@code queue-capacity}. En los dos casos, sin hueco se responde 503 al momento.
+ * <p>
+ * Si la llamada no termina en {@code timeout-ms} se responde 504 y se interrumpe, pero lo que ya
+ * haya hecho no se deshace: un login que confirma su sesion despues del timeout deja esa sesion
+ * activa aunque el cliente haya recibido el 504.
+ */
+@Component
+@Slf4j
+public class AsyncServletExecutor {
+
+    private final ExecutorService executor;
+    // Solo con hilos virtuales: llamadas en curso admitidas
+    private final Semaphore permits;
+    private final long timeoutMs;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public AsyncServletExecutor(@Value("${vbote.servlet.async.threads:16}") int threads,
+                                @Value("${vbote.servlet.async.queue-capacity:256}") int queueCapacity,
+                                @Value("${vbote.servlet.async.timeout-ms:30000}") long timeoutMs,
+                                @Value("${vbote.threads.virtual.enabled:false}") boolean virtualThreads,
+                                MeterRegistry meterRegistry) {
+        this.timeoutMs = timeoutMs;
+        Optional<ExecutorService> virtual = virtualThreads
+                ? VirtualThreads.newThreadPerTaskExecutor("servlet-vt-")
+                : Optional.empty();
+
+        this.rejectedCounter = Counter.builder("servlet.async.rejected")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("servlet.async.timeouts")
+                .register(meterRegistry);
+
+        if (virtual.isPresent()) {
+            int maxInFlight = threads + queueCapacity;
+            this.executor = virtual.get();
+            this.permits = new Semaphore(maxInFlight);
+            Gauge.builder("servlet.async.queue.depth", () -> 0)
+                    .register(meterRegistry);
+            Gauge.builder("servlet.async.active", permits, semaphore -> maxInFlight - semaphore.availablePermits())
+                    .register(meterRegistry);
+            log.info("Servlet async calls on virtual threads, at most {} in flight, timeout {} ms",
+                    maxInFlight, timeoutMs);
+            return;
+        }
+
+        if (virtualThreads) {
+            log.warn("Virtual threads not supported by Java {}; servlet async calls use the platform pool",
+                    Runtime.version());
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ServletThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = pool;
+        this.permits = null;
+        Gauge.builder("servlet.async.queue.depth", pool, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("servlet.async.active", pool, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        log.info("Servlet async pool started with {} threads, queue capacity {} and timeout {} ms",
+                threads, queueCapacity, timeoutMs);
+    }
+
+    /**
+     * Pone la peticion en modo asincrono y ejecuta {@code call} fuera del hilo del contenedor. La
+     * respuesta que devuelve se escribe salvo que antes haya vencido el timeout.
+     *
+     * @param operation nombre para el log de errores, p. ej. {@code "SessionServlet POST"}
+     */
+    public void dispatch(HttpServletRequest req, HttpServletResponse resp, String operation, AsyncCall call) {
+        if (permits != null && !permits.tryAcquire()) {
+            reject(resp, operation);
+            return;
+        }
+        AsyncContext asyncContext = req.startAsync();
+        asyncContext.setTimeout(timeoutMs);
+        AsyncExchange exchange = new AsyncExchange(asyncContext, resp, operation);
+        asyncContext.addListener(exchange);
+        try {
+            exchange.task = executor.submit(() -> exchange.run(call));
+        } catch (RejectedExecutionException e) {
+            exchange.releasePermit();
+            rejectedCounter.increment();
+            log.warn("Servlet async pool saturated, rejecting {}", operation);
+            exchange.finish(busy(new ServiceBusyException("servlet executor").getMessage()));
+        }
+    }
+
+    // Sin permiso la peticion no llega a pasar a modo asincrono
+    private void reject(HttpServletResponse resp, String operation) {
+        rejectedCounter.increment();
+        log.warn("Servlet async calls saturated, rejecting {}", operation);
+        try {
+            busy(new ServiceBusyException("servlet executor").getMessage()).writeTo(resp);
+        } catch (IOException e) {
+            log.debug("Could not write {} response, client gone: {}", operation, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Llamada al caso de uso; corre en el pool y devuelve lo que hay que escribir.
+     */
+    @FunctionalInterface
+    public interface AsyncCall {
+
+        ResponseWriter call() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface ResponseWriter {
+
+        void writeTo(HttpServletResponse resp) throws IOException;
+    }
+
+    /*
+     * Mismos codigos que los servlets en modo sincrono
+     */
+    private static ResponseWriter failure(String operation, Exception e) {
+        if (e instanceof ServiceBusyException) {
+            return busy(e.getMessage());
+        }
+        if (e instanceof InvalidCursorException || e instanceof BatchTooLargeException) {
+            return error(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+        }
+        log.error("Error in {}", operation, e);
+        return error(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+    }
+
+    private static ResponseWriter busy(String message) {
+        return resp -> {
+            resp.setHeader("Retry-After", "1");
+            error(HttpServletResponse.SC_SERVICE_UNAVAILABLE, message).writeTo(resp);
+        };
+    }
+
+    private static ResponseWriter timedOut(String message) {
+        return error(HttpServletResponse.SC_GATEWAY_TIMEOUT, message);
+    }
+
+    private static ResponseWriter error(int status, String message) {
+        return resp -> {
+            resp.setStatus(status);
+            resp.getWriter().write("{\"error\": \"" + message + "\"}");
+        };
+    }
+
+    /*
+     * La llamada y el timeout compiten por escribir la respuesta: gana el primero y el otro no
+     * toca la respuesta, que el contenedor recicla tras complete(). El permiso (hilos virtuales) lo
+     * devuelve la llamada al terminar o, si se cancela antes de empezar, quien la cancela.
+     */
+    private final class AsyncExchange implements AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final HttpServletResponse response;
+        private final String operation;
+        private volatile Future<?> task;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private boolean finished;
+
+        private AsyncExchange(AsyncContext asyncContext, HttpServletResponse response, String operation) {
+            this.asyncContext = asyncContext;
+            this.response = response;
+            this.operation = operation;
+        }
+
+        private void run(AsyncCall call) {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                ResponseWriter writer;
+                try {
+                    writer = call.call();
+                } catch (Exception e) {
+                    if (isFinished()) {
+                        log.debug("{} failed after its response was sent: {}", operation, e.toString());
+                        return;
+                    }
+                    writer = failure(operation, e);
+                }
+                finish(writer);
+            } finally {
+                releasePermit();
+            }
+        }
+
+        private void releasePermit() {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+
+        private synchronized boolean isFinished() {
+            return finished;
+        }
+
+        private synchronized boolean finish(ResponseWriter writer) {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            try {
+                writer.writeTo(response);
+            } catch (IOException e) {
+                log.debug("Could not write {} response, client gone: {}", operation, e.getMessage());
+            } finally {
+                asyncContext.complete();
+            }
+            return true;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (finish(timedOut("Request timed out after " + timeoutMs + " ms"))) {
+                timeoutCounter.increment();
+                log.warn("{} timed out after {} ms", operation, timeoutMs);
+                cancel();
+            }
+        }
+
+        @Override
+        public synchronized void onError(AsyncEvent event) {
+            finished = true;
+            cancel();
+        }
+
+        private void cancel() {
+            Future<?> pending = task;
+            if (pending != null) {
+                pending.cancel(true);
+            }
+            // Si la llamada no llego a empezar ya no empezara: su permiso se devuelve aqui
+            if (claimed.compareAndSet(false, true)) {
+                releasePermit();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    private static final class ServletThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "servlet-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.vbote.api.infrastructure.adapter.in.web.servlet;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vbote.api.domain.model.CursorPage;
 import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenValidation;
 import com.vbote.api.domain.port.in.SessionUseCase;
+import com.vbote.api.infrastructure.adapter.in.web.dto.CursorPageResponse;
 import com.vbote.api.infrastructure.adapter.in.web.dto.SessionDto;
 import com.vbote.api.infrastructure.adapter.in.web.mapper.SessionWebMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +22,10 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
-@WebServlet(name = "SessionServlet", urlPatterns = {"/servlet/sessions/*"})
+@WebServlet(name = "SessionServlet", urlPatterns = {"/servlet/sessions/*"}, asyncSupported = true)
 @Slf4j
 public class SessionServlet extends HttpServlet {
 
@@ -28,7 +35,12 @@ public class SessionServlet extends HttpServlet {
     @Autowired
     private SessionWebMapper mapper;
 
+    @Autowired
+    private AsyncServletExecutor asyncExecutor;
+
     private ObjectMapper objectMapper;
+    // Filas del listado en streaming: el buffer del generador y el contenedor deciden cuando vaciar
+    private ObjectWriter rowWriter;
 
     @Override
     public void init() throws ServletException {
@@ -36,6 +48,7 @@ public class SessionServlet extends HttpServlet {
         SpringBeanAutowiringSupport.processInjectionBasedOnCurrentContext(this);
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @Override
@@ -50,22 +63,33 @@ public class SessionServlet extends HttpServlet {
 
         try {
             if (pathInfo == null || pathInfo.equals("/")) {
-                // GET /servlet/sessions - Lista todas las sesiones activas
-                List<Session> sessions = sessionUseCase.getActiveSessions();
-                List<SessionDto.Response> response = mapper.toResponseList(sessions);
+                // GET /servlet/sessions?cursor=&limit= - Lista paginada de sesiones activas
+                // GET /servlet/sessions?stream=true - Todas las sesiones activas en streaming
+                if (isStreamRequested(req)) {
+                    streamActiveSessions(resp);
+                    return;
+                }
 
-                resp.setStatus(HttpServletResponse.SC_OK);
-                objectMapper.writeValue(resp.getWriter(), response);
+                String cursor = req.getParameter("cursor");
+                int limit = parseLimit(req.getParameter("limit"));
+                asyncExecutor.dispatch(req, resp, "SessionServlet GET", () -> {
+                    CursorPage<Session> page = sessionUseCase.getActiveSessionsPage(cursor, limit);
+                    CursorPageResponse<SessionDto.Response> response = CursorPageResponse.<SessionDto.Response>builder()
+                            .items(mapper.toResponseList(page.getItems()))
+                            .nextCursor(page.getNextCursor())
+                            .build();
+                    return out -> writeJson(out, HttpServletResponse.SC_OK, response);
+                });
             } else if (pathInfo.startsWith("/user/")) {
                 // GET /servlet/sessions/user/{userId} - Sesiones de un usuario
                 String userIdStr = pathInfo.substring("/user/".length());
                 Long userId = Long.parseLong(userIdStr);
 
-                List<Session> sessions = sessionUseCase.getActiveSessionsByUserId(userId);
-                List<SessionDto.Response> response = mapper.toResponseList(sessions);
-
-                resp.setStatus(HttpServletResponse.SC_OK);
-                objectMapper.writeValue(resp.getWriter(), response);
+                asyncExecutor.dispatch(req, resp, "SessionServlet GET", () -> {
+                    List<Session> sessions = sessionUseCase.getActiveSessionsByUserId(userId);
+                    List<SessionDto.Response> response = mapper.toResponseList(sessions);
+                    return out -> writeJson(out, HttpServletResponse.SC_OK, response);
+                });
             } else {
                 sendError(resp, HttpServletResponse.SC_NOT_FOUND, "Endpoint not found");
             }
@@ -73,6 +97,12 @@ public class SessionServlet extends HttpServlet {
             sendError(resp, HttpServletResponse.SC_BAD_REQUEST, "Invalid user ID format");
         } catch (Exception e) {
             log.error("Error in SessionServlet GET", e);
+            if (resp.isCommitted()) {
+                return;
+            }
+            resp.reset();
+            resp.setContentType("application/json");
+            resp.setCharacterEncoding("UTF-8");
             sendError(resp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
         }
     }
@@ -92,21 +122,33 @@ public class SessionServlet extends HttpServlet {
                 // POST /servlet/sessions/login - Login
                 SessionDto.LoginRequest request = objectMapper.readValue(req.getReader(), SessionDto.LoginRequest.class);
                 String ipAddress = getClientIpAddress(req);
-                Session session = sessionUseCase.login(request.getUsername(), request.getPassword(), ipAddress);
-
-                resp.setStatus(HttpServletResponse.SC_OK);
-                objectMapper.writeValue(resp.getWriter(), mapper.toLoginResponse(session));
+                asyncExecutor.dispatch(req, resp, "SessionServlet POST", () -> {
+                    Session session = sessionUseCase.login(request.getUsername(), request.getPassword(), ipAddress);
+                    return out -> writeJson(out, HttpServletResponse.SC_OK, mapper.toLoginResponse(session));
+                });
             } else if (pathInfo != null && pathInfo.equals("/logout")) {
                 // POST /servlet/sessions/logout - Logout
                 String authHeader = req.getHeader("Authorization");
                 String token = extractToken(authHeader);
-                sessionUseCase.logout(token);
-
-                resp.setStatus(HttpServletResponse.SC_OK);
-                objectMapper.writeValue(resp.getWriter(), SessionDto.LogoutResponse.builder()
-                        .message("Logout successful")
-                        .sessionsClosedCount(1)
-                        .build());
+                asyncExecutor.dispatch(req, resp, "SessionServlet POST", () -> {
+                    sessionUseCase.logout(token);
+                    return out -> writeJson(out, HttpServletResponse.SC_OK, SessionDto.LogoutResponse.builder()
+                            .message("Logout successful")
+                            .sessionsClosedCount(1)
+                            .build());
+                });
+            } else if (pathInfo != null && pathInfo.equals("/validate:batch")) {
+                // POST /servlet/sessions/validate:batch - Validar un lote de tokens
+                SessionDto.BatchValidateRequest request = objectMapper.readValue(req.getReader(),
+                        SessionDto.BatchValidateRequest.class);
+                if (request.getTokens() == null || request.getTokens().isEmpty()) {
+                    sendError(resp, HttpServletResponse.SC_BAD_REQUEST, "Tokens are required");
+                    return;
+                }
+                asyncExecutor.dispatch(req, resp, "SessionServlet POST", () -> {
+                    List<TokenValidation> validations = sessionUseCase.validateSessions(request.getTokens());
+                    return out -> writeJson(out, HttpServletResponse.SC_OK, mapper.toBatchValidateResponse(validations));
+                });
             } else {
                 sendError(resp, HttpServletResponse.SC_NOT_FOUND, "Endpoint not found");
             }
@@ -132,13 +174,13 @@ public class SessionServlet extends HttpServlet {
                 String userIdStr = pathInfo.substring("/user/".length());
                 Long userId = Long.parseLong(userIdStr);
 
-                int closedCount = sessionUseCase.closeAllUserSessions(userId);
-
-                resp.setStatus(HttpServletResponse.SC_OK);
-                objectMapper.writeValue(resp.getWriter(), SessionDto.LogoutResponse.builder()
-                        .message("All sessions closed for user")
-                        .sessionsClosedCount(closedCount)
-                        .build());
+                asyncExecutor.dispatch(req, resp, "SessionServlet DELETE", () -> {
+                    int closedCount = sessionUseCase.closeAllUserSessions(userId);
+                    return out -> writeJson(out, HttpServletResponse.SC_OK, SessionDto.LogoutResponse.builder()
+                            .message("All sessions closed for user")
+                            .sessionsClosedCount(closedCount)
+                            .build());
+                });
             } else {
                 sendError(resp, HttpServletResponse.SC_NOT_FOUND, "Endpoint not found");
             }
@@ -150,6 +192,53 @@ public class SessionServlet extends HttpServlet {
         }
     }
 
+    private void writeJson(HttpServletResponse resp, int status, Object body) throws IOException {
+        resp.setStatus(status);
+        objectMapper.writeValue(resp.getWriter(), body);
+    }
+
+    /*
+     * El listado en streaming sigue en el hilo del contenedor: es E/S de principio a fin y no
+     * tiene un resultado que escribir al terminar.
+     *
+     * Cada sesion se mapea y se escribe directamente en el JsonGenerator: la memoria usada no
+     * depende del numero de filas.
+     */
+    private void streamActiveSessions(HttpServletResponse resp) throws IOException {
+        resp.setStatus(HttpServletResponse.SC_OK);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(resp.getOutputStream())) {
+            generator.writeStartArray();
+            sessionUseCase.forEachActiveSession(session -> writeRow(generator, mapper.toResponse(session)));
+            generator.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeRow(JsonGenerator generator, Object row) {
+        try {
+            rowWriter.writeValue(generator, row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isStreamRequested(HttpServletRequest req) {
+        return Boolean.parseBoolean(req.getParameter("stream"));
+    }
+
+    private int parseLimit(String limit) {
+        if (limit == null || limit.isEmpty()) {
+            return CursorPageResponse.DEFAULT_LIMIT;
+        }
+        try {
+            return Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid limit: {}", limit);
+            return CursorPageResponse.DEFAULT_LIMIT;
+        }
+    }
+
     private String extractToken(String authHeader) {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             return authHeader.substring(7);
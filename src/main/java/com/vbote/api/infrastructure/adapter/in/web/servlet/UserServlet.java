@@ -1,9 +1,14 @@
 package com.vbote.api.infrastructure.adapter.in.web.servlet;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vbote.api.domain.model.CursorPage;
 import com.vbote.api.domain.model.User;
 import com.vbote.api.domain.port.in.UserUseCase;
+import com.vbote.api.infrastructure.adapter.in.web.dto.CursorPageResponse;
 import com.vbote.api.infrastructure.adapter.in.web.dto.UserDto;
 import com.vbote.api.infrastructure.adapter.in.web.mapper.UserWebMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +21,9 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
+import java.io.UncheckedIOException;
 
-@WebServlet(name = "UserServlet", urlPatterns = {"/servlet/users/*"})
+@WebServlet(name = "UserServlet", urlPatterns = {"/servlet/users/*"}, asyncSupported = true)
 @Slf4j
 public class UserServlet extends HttpServlet {
 
@@ -28,7 +33,12 @@ public class UserServlet extends HttpServlet {
     @Autowired
     private UserWebMapper mapper;
 
+    @Autowired
+    private AsyncServletExecutor asyncExecutor;
+
     private ObjectMapper objectMapper;
+    // Filas del listado en streaming: el buffer del generador y el contenedor deciden cuando vaciar
+    private ObjectWriter rowWriter;
 
     @Override
     public void init() throws ServletException {
@@ -36,6 +46,7 @@ public class UserServlet extends HttpServlet {
         SpringBeanAutowiringSupport.processInjectionBasedOnCurrentContext(this);
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @Override
@@ -50,7 +61,8 @@ public class UserServlet extends HttpServlet {
 
         try {
             if (pathInfo == null || pathInfo.equals("/")) {
-                // GET /servlet/users - Lista todos
+                // GET /servlet/users?cursor=&limit= - Lista paginada
+                // GET /servlet/users?stream=true - Lista completa en streaming
                 String username = req.getParameter("username");
                 String role = req.getParameter("role");
                 String blockedStr = req.getParameter("blocked");
@@ -65,37 +77,42 @@ public class UserServlet extends HttpServlet {
                     }
                 }
 
-                List<User> users = userUseCase.getAllUsers(username, userRole, blocked);
-                List<UserDto.Response> response = mapper.toResponseList(users);
+                if (isStreamRequested(req)) {
+                    streamUsers(resp, username, userRole, blocked);
+                    return;
+                }
 
-                resp.setStatus(HttpServletResponse.SC_OK);
-                objectMapper.writeValue(resp.getWriter(), response);
+                String cursor = req.getParameter("cursor");
+                int limit = parseLimit(req.getParameter("limit"));
+                User.Role roleFilter = userRole;
+                asyncExecutor.dispatch(req, resp, "UserServlet GET", () -> {
+                    CursorPage<User> page = userUseCase.getUsersPage(username, roleFilter, blocked, cursor, limit);
+                    CursorPageResponse<UserDto.Response> response = CursorPageResponse.<UserDto.Response>builder()
+                            .items(mapper.toResponseList(page.getItems()))
+                            .nextCursor(page.getNextCursor())
+                            .build();
+                    return out -> writeJson(out, HttpServletResponse.SC_OK, response);
+                });
             } else {
                 // GET /servlet/users/{id} - Obtener por ID
                 Long id = extractIdFromPath(pathInfo);
-                userUseCase.getUserById(id)
-                        .ifPresentOrElse(
-                                user -> {
-                                    try {
-                                        resp.setStatus(HttpServletResponse.SC_OK);
-                                        objectMapper.writeValue(resp.getWriter(), mapper.toResponse(user));
-                                    } catch (IOException e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                },
-                                () -> {
-                                    try {
-                                        sendError(resp, HttpServletResponse.SC_NOT_FOUND, "User not found");
-                                    } catch (IOException e) {
-                                        throw new RuntimeException(e);
-                                    }
-                                }
-                        );
+                asyncExecutor.dispatch(req, resp, "UserServlet GET", () -> userUseCase.getUserById(id)
+                        .<AsyncServletExecutor.ResponseWriter>map(user -> {
+                            UserDto.Response response = mapper.toResponse(user);
+                            return out -> writeJson(out, HttpServletResponse.SC_OK, response);
+                        })
+                        .orElse(out -> sendError(out, HttpServletResponse.SC_NOT_FOUND, "User not found")));
             }
         } catch (NumberFormatException e) {
             sendError(resp, HttpServletResponse.SC_BAD_REQUEST, "Invalid user ID format");
         } catch (Exception e) {
             log.error("Error in UserServlet GET", e);
+            if (resp.isCommitted()) {
+                return;
+            }
+            resp.reset();
+            resp.setContentType("application/json");
+            resp.setCharacterEncoding("UTF-8");
             sendError(resp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
         }
     }
@@ -111,10 +128,10 @@ public class UserServlet extends HttpServlet {
         try {
             UserDto.CreateRequest request = objectMapper.readValue(req.getReader(), UserDto.CreateRequest.class);
             User user = mapper.toDomain(request);
-            User createdUser = userUseCase.createUser(user);
-
-            resp.setStatus(HttpServletResponse.SC_CREATED);
-            objectMapper.writeValue(resp.getWriter(), mapper.toResponse(createdUser));
+            asyncExecutor.dispatch(req, resp, "UserServlet POST", () -> {
+                User createdUser = userUseCase.createUser(user);
+                return out -> writeJson(out, HttpServletResponse.SC_CREATED, mapper.toResponse(createdUser));
+            });
         } catch (Exception e) {
             log.error("Error in UserServlet POST", e);
             sendError(resp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
@@ -139,10 +156,10 @@ public class UserServlet extends HttpServlet {
             Long id = extractIdFromPath(pathInfo);
             UserDto.UpdateRequest request = objectMapper.readValue(req.getReader(), UserDto.UpdateRequest.class);
             User user = mapper.toDomain(request);
-            User updatedUser = userUseCase.updateUser(id, user);
-
-            resp.setStatus(HttpServletResponse.SC_OK);
-            objectMapper.writeValue(resp.getWriter(), mapper.toResponse(updatedUser));
+            asyncExecutor.dispatch(req, resp, "UserServlet PUT", () -> {
+                User updatedUser = userUseCase.updateUser(id, user);
+                return out -> writeJson(out, HttpServletResponse.SC_OK, mapper.toResponse(updatedUser));
+            });
         } catch (NumberFormatException e) {
             sendError(resp, HttpServletResponse.SC_BAD_REQUEST, "Invalid user ID format");
         } catch (Exception e) {
@@ -151,6 +168,54 @@ public class UserServlet extends HttpServlet {
         }
     }
 
+    private void writeJson(HttpServletResponse resp, int status, Object body) throws IOException {
+        resp.setStatus(status);
+        objectMapper.writeValue(resp.getWriter(), body);
+    }
+
+    /*
+     * El listado en streaming sigue en el hilo del contenedor: es E/S de principio a fin y no
+     * tiene un resultado que escribir al terminar.
+     *
+     * Cada usuario se mapea y se escribe directamente en el JsonGenerator: la memoria usada no
+     * depende del numero de filas.
+     */
+    private void streamUsers(HttpServletResponse resp, String username, User.Role role, Boolean blocked)
+            throws IOException {
+        resp.setStatus(HttpServletResponse.SC_OK);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(resp.getOutputStream())) {
+            generator.writeStartArray();
+            userUseCase.forEachUser(username, role, blocked, user -> writeRow(generator, mapper.toResponse(user)));
+            generator.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeRow(JsonGenerator generator, Object row) {
+        try {
+            rowWriter.writeValue(generator, row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isStreamRequested(HttpServletRequest req) {
+        return Boolean.parseBoolean(req.getParameter("stream"));
+    }
+
+    private int parseLimit(String limit) {
+        if (limit == null || limit.isEmpty()) {
+            return CursorPageResponse.DEFAULT_LIMIT;
+        }
+        try {
+            return Integer.parseInt(limit);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid limit: {}", limit);
+            return CursorPageResponse.DEFAULT_LIMIT;
+        }
+    }
+
     private Long extractIdFromPath(String pathInfo) {
         String idStr = pathInfo.startsWith("/") ? pathInfo.substring(1) : pathInfo;
         if (idStr.contains("/")) {
@@ -0,0 +1,154 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenDigest;
+import com.vbote.api.domain.model.User;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Indice en memoria de las sesiones activas, por digest del token y por usuario.
+ * <p>
+ * Igual que la tabla, no guarda el token emitido: las sesiones devueltas solo llevan su
+ * {@link TokenDigest}.
+ * <p>
+ * Las operaciones de un mismo usuario se serializan sobre su entrada en {@code tokensByUser},
+ * de modo que ambos mapas quedan siempre consistentes entre si. Se guardan y devuelven copias
+ * porque {@link Session} y {@link User} son mutables.
+ */
+@Component
+public class ActiveSessionIndex {
+
+    private final ConcurrentMap<TokenDigest, Session> sessionsByToken = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<TokenDigest>> tokensByUser = new ConcurrentHashMap<>();
+
+    public Optional<Session> findByToken(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        return findByDigest(TokenDigest.of(token));
+    }
+
+    public Optional<Session> findByDigest(TokenDigest digest) {
+        return Optional.ofNullable(sessionsByToken.get(digest)).map(ActiveSessionIndex::copyOf);
+    }
+
+    public List<Session> findAllByUserId(Long userId) {
+        Set<TokenDigest> tokens = tokensByUser.get(userId);
+        if (tokens == null) {
+            return new ArrayList<>();
+        }
+        List<Session> sessions = new ArrayList<>();
+        synchronized (tokens) {
+            for (TokenDigest token : tokens) {
+                Session session = sessionsByToken.get(token);
+                if (session != null) {
+                    sessions.add(copyOf(session));
+                }
+            }
+        }
+        return sessions;
+    }
+
+    /**
+     * Registra la sesion si esta activa, o la elimina del indice si ya no lo esta.
+     */
+    public void put(Session session) {
+        if (!session.isActive()) {
+            remove(session);
+            return;
+        }
+        Session snapshot = session.toBuilder()
+                .token(null)
+                .tokenDigest(session.getTokenDigest())
+                .user(session.getUser().toBuilder().build())
+                .build();
+        tokensByUser.compute(userIdOf(session), (userId, tokens) -> {
+            Set<TokenDigest> updated = tokens != null ? tokens : new HashSet<>();
+            synchronized (updated) {
+                updated.add(snapshot.getTokenDigest());
+            }
+            sessionsByToken.put(snapshot.getTokenDigest(), snapshot);
+            return updated;
+        });
+    }
+
+    public void putAll(Collection<Session> sessions) {
+        sessions.forEach(this::put);
+    }
+
+    public void remove(Session session) {
+        remove(session.getTokenDigest(), userIdOf(session));
+    }
+
+    public void remove(TokenDigest token, Long userId) {
+        tokensByUser.computeIfPresent(userId, (id, tokens) -> {
+            sessionsByToken.remove(token);
+            synchronized (tokens) {
+                tokens.remove(token);
+                return tokens.isEmpty() ? null : tokens;
+            }
+        });
+    }
+
+    public int removeAllByUserId(Long userId) {
+        int[] removed = {0};
+        tokensByUser.computeIfPresent(userId, (id, tokens) -> {
+            synchronized (tokens) {
+                for (TokenDigest token : tokens) {
+                    if (sessionsByToken.remove(token) != null) {
+                        removed[0]++;
+                    }
+                }
+            }
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Sustituye la copia del usuario en todas sus sesiones activas, p. ej. tras bloquearlo.
+     */
+    public void refreshUser(User user) {
+        User snapshot = user.toBuilder().build();
+        tokensByUser.computeIfPresent(user.getId(), (userId, tokens) -> {
+            synchronized (tokens) {
+                for (TokenDigest token : tokens) {
+                    sessionsByToken.computeIfPresent(token,
+                            (key, session) -> session.toBuilder().user(snapshot).build());
+                }
+            }
+            return tokens;
+        });
+    }
+
+    public int size() {
+        return sessionsByToken.size();
+    }
+
+    public void clear() {
+        sessionsByToken.clear();
+        tokensByUser.clear();
+    }
+
+    private static Long userIdOf(Session session) {
+        if (session.getUser() == null || session.getUser().getId() == null) {
+            throw new IllegalArgumentException("Session must reference a persisted user");
+        }
+        return session.getUser().getId();
+    }
+
+    private static Session copyOf(Session session) {
+        return session.toBuilder()
+                .user(session.getUser().toBuilder().build())
+                .build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Cache de {@code findById} y {@code findByUsername} delante de otro {@link UserRepository}.
+ * <p>
+ * Por id se guarda una copia del usuario y por username solo su id, que se comprueba contra la
+ * entrada por id: asi basta invalidar el id para que un cambio de username o un bloqueo no deje
+ * entradas viejas. Las entradas caducan a los {@code ttl} y se devuelve siempre una copia, porque
+ * los servicios modifican el usuario leido antes de guardarlo.
+ * <p>
+ * Un usuario escrito en la transaccion actual se lee del delegado hasta que esta termina, y al
+ * terminar se invalida. Una lectura que empezo antes de ese momento no llega a cachear la fila
+ * antigua (contador {@code generation}).
+ * <p>
+ * Con replicas ({@code replicaLag} mayor que cero), durante {@code replicaLag} tras invalidar un id
+ * no se cachean lecturas suyas que puedan ir a una replica: la replica puede devolver aun la fila
+ * anterior y quedaria en cache todo el {@code ttl}. Las lecturas en el primario si se cachean.
+ * <p>
+ * Solo es coherente con una instancia de la aplicacion: otra instancia no invalida esta cache.
+ */
+public class CachingUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final Cache<Long, User> usersById;
+    private final Cache<String, Long> idsByUsername;
+    private final Cache<Long, Boolean> recentlyInvalidated;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingUserRepository(UserRepository delegate, long maximumSize, Duration ttl,
+                                 MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, ttl, Duration.ZERO, meterRegistry);
+    }
+
+    public CachingUserRepository(UserRepository delegate, long maximumSize, Duration ttl, Duration replicaLag,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByUsername = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.recentlyInvalidated = replicaLag.isZero()
+                ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(replicaLag)
+                        .maximumSize(maximumSize)
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByUsername, "users.by-username");
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        invalidateOnCompletion(List.of(saved));
+        return saved;
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> saved = delegate.saveAll(users);
+        invalidateOnCompletion(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        if (writtenInCurrentTransaction(id)) {
+            return delegate.findById(id);
+        }
+        User cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        long readGeneration = generation.get();
+        Optional<User> loaded = delegate.findById(id);
+        loaded.ifPresent(user -> cache(user, readGeneration));
+        return loaded;
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        Long id = idsByUsername.getIfPresent(username);
+        if (id != null && !writtenInCurrentTransaction(id)) {
+            User cached = usersById.getIfPresent(id);
+            if (cached != null && username.equals(cached.getUsername())) {
+                return Optional.of(copy(cached));
+            }
+        }
+        long readGeneration = generation.get();
+        Optional<User> loaded = delegate.findByUsername(username);
+        loaded.filter(user -> !writtenInCurrentTransaction(user.getId()))
+                .ifPresent(user -> cache(user, readGeneration));
+        return loaded;
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<User> findAllWithFilters(String username, User.Role role, Boolean blocked) {
+        return delegate.findAllWithFilters(username, role, blocked);
+    }
+
+    @Override
+    public List<User> findPageWithFilters(String username, User.Role role, Boolean blocked, PageCursor after, int limit) {
+        return delegate.findPageWithFilters(username, role, blocked, after, limit);
+    }
+
+    @Override
+    public Stream<User> streamAllWithFilters(String username, User.Role role, Boolean blocked) {
+        return delegate.streamAllWithFilters(username, role, blocked);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return delegate.findExistingUsernames(usernames);
+    }
+
+    /*
+     * Si una escritura termino mientras se leia, la fila leida puede ser la anterior: se retira
+     */
+    private void cache(User user, long readGeneration) {
+        if (mayBeStaleReplicaRead(user.getId())) {
+            return;
+        }
+        usersById.put(user.getId(), copy(user));
+        idsByUsername.put(user.getUsername(), user.getId());
+        if (generation.get() != readGeneration) {
+            usersById.invalidate(user.getId());
+        }
+    }
+
+    private void invalidate(Collection<Long> ids) {
+        generation.incrementAndGet();
+        if (recentlyInvalidated != null) {
+            ids.forEach(id -> recentlyInvalidated.put(id, Boolean.TRUE));
+        }
+        usersById.invalidateAll(ids);
+    }
+
+    /*
+     * Las lecturas fuera de transaccion o de solo lectura van a una replica salvo que se fuerce el primario
+     */
+    private boolean mayBeStaleReplicaRead(Long id) {
+        return recentlyInvalidated != null
+                && recentlyInvalidated.getIfPresent(id) != null
+                && TransactionCallbacks.isSharedRead();
+    }
+
+    private void invalidateOnCompletion(List<User> users) {
+        Set<Long> ids = new HashSet<>();
+        users.forEach(user -> ids.add(user.getId()));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(ids);
+            return;
+        }
+        WrittenIds written = (WrittenIds) TransactionSynchronizationManager.getResource(this);
+        if (written == null) {
+            written = new WrittenIds();
+            TransactionSynchronizationManager.bindResource(this, written);
+            TransactionSynchronizationManager.registerSynchronization(written);
+        }
+        written.ids.addAll(ids);
+    }
+
+    private boolean writtenInCurrentTransaction(Long id) {
+        WrittenIds written = (WrittenIds) TransactionSynchronizationManager.getResource(this);
+        return written != null && written.ids.contains(id);
+    }
+
+    private static User copy(User user) {
+        return user.toBuilder().build();
+    }
+
+    /*
+     * Ids escritos en la transaccion; se invalidan tanto si confirma como si se deshace
+     */
+    private final class WrittenIds implements TransactionSynchronization {
+
+        private final Set<Long> ids = new HashSet<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CachingUserRepository.this);
+            invalidate(ids);
+        }
+    }
+}
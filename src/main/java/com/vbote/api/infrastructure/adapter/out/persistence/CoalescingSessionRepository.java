@@ -0,0 +1,115 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.port.out.SessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Agrupa con {@link SingleFlight} las lecturas concurrentes de un mismo token
+ * ({@code findByToken} y {@code findValidationByToken}) delante de otro {@link SessionRepository}.
+ * Con el indice de sesiones activo esas lecturas ya no van a la base de datos y agruparlas apenas
+ * ahorra nada; el caso que cubre es el indice desactivado (varias instancias).
+ * <p>
+ * Igual que {@link CoalescingUserRepository}, solo agrupa lecturas sin escrituras propias pendientes.
+ */
+public class CoalescingSessionRepository implements SessionRepository {
+
+    private final SessionRepository delegate;
+    private final SingleFlight<String, Optional<Session>> byToken;
+    private final SingleFlight<String, Optional<SessionValidation>> validationByToken;
+
+    public CoalescingSessionRepository(SessionRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.byToken = new SingleFlight<>("sessions.by-token", CoalescingSessionRepository::copy, meterRegistry);
+        // SessionValidation es inmutable: todos pueden compartir la misma instancia
+        this.validationByToken = new SingleFlight<>("sessions.validation-by-token", UnaryOperator.identity(),
+                meterRegistry);
+    }
+
+    @Override
+    public Session save(Session session) {
+        return delegate.save(session);
+    }
+
+    @Override
+    public Optional<Session> findByToken(String token) {
+        if (token == null || !TransactionCallbacks.isSharedRead()) {
+            return delegate.findByToken(token);
+        }
+        return byToken.load(token, () -> delegate.findByToken(token));
+    }
+
+    @Override
+    public Optional<SessionValidation> findValidationByToken(String token) {
+        if (token == null || !TransactionCallbacks.isSharedRead()) {
+            return delegate.findValidationByToken(token);
+        }
+        return validationByToken.load(token, () -> delegate.findValidationByToken(token));
+    }
+
+    @Override
+    public Map<String, SessionValidation> findValidationsByTokens(Collection<String> tokens) {
+        return delegate.findValidationsByTokens(tokens);
+    }
+
+    @Override
+    public List<Session> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public List<Session> findActivePage(PageCursor after, int limit) {
+        return delegate.findActivePage(after, limit);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public Stream<Session> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public List<Session> findAllActiveByUserId(Long userId) {
+        return delegate.findAllActiveByUserId(userId);
+    }
+
+    @Override
+    public int deactivateAllByUserId(Long userId) {
+        return delegate.deactivateAllByUserId(userId);
+    }
+
+    @Override
+    public int deactivateCreatedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.deactivateCreatedBefore(cutoff, limit);
+    }
+
+    @Override
+    public int archiveInactiveCreatedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.archiveInactiveCreatedBefore(cutoff, limit);
+    }
+
+    @Override
+    public int purgeArchivedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.purgeArchivedBefore(cutoff, limit);
+    }
+
+    private static Optional<Session> copy(Optional<Session> session) {
+        return session.map(found -> found.toBuilder()
+                .user(found.getUser() != null ? found.getUser().toBuilder().build() : null)
+                .build());
+    }
+}
@@ -0,0 +1,93 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Agrupa con {@link SingleFlight} las lecturas concurrentes de {@code findById} y
+ * {@code findByUsername} de un mismo usuario delante de otro {@link UserRepository}. No guarda
+ * resultados: eso es cosa de {@link CachingUserRepository}, que queda detras.
+ * <p>
+ * Solo se agrupan lecturas fuera de transaccion o en transacciones de solo lectura; dentro de una
+ * transaccion que escribe, el llamante debe ver sus propios cambios.
+ */
+public class CoalescingUserRepository implements UserRepository {
+
+    private final UserRepository delegate;
+    private final SingleFlight<Long, Optional<User>> byId;
+    private final SingleFlight<String, Optional<User>> byUsername;
+
+    public CoalescingUserRepository(UserRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.byId = new SingleFlight<>("users.by-id", CoalescingUserRepository::copy, meterRegistry);
+        this.byUsername = new SingleFlight<>("users.by-username", CoalescingUserRepository::copy, meterRegistry);
+    }
+
+    @Override
+    public User save(User user) {
+        return delegate.save(user);
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        return delegate.saveAll(users);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        if (id == null || !TransactionCallbacks.isSharedRead()) {
+            return delegate.findById(id);
+        }
+        return byId.load(id, () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        if (username == null || !TransactionCallbacks.isSharedRead()) {
+            return delegate.findByUsername(username);
+        }
+        return byUsername.load(username, () -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<User> findAllWithFilters(String username, User.Role role, Boolean blocked) {
+        return delegate.findAllWithFilters(username, role, blocked);
+    }
+
+    @Override
+    public List<User> findPageWithFilters(String username, User.Role role, Boolean blocked, PageCursor after, int limit) {
+        return delegate.findPageWithFilters(username, role, blocked, after, limit);
+    }
+
+    @Override
+    public Stream<User> streamAllWithFilters(String username, User.Role role, Boolean blocked) {
+        return delegate.streamAllWithFilters(username, role, blocked);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return delegate.findExistingUsernames(usernames);
+    }
+
+    private static Optional<User> copy(Optional<User> user) {
+        return user.map(found -> found.toBuilder().build());
+    }
+}
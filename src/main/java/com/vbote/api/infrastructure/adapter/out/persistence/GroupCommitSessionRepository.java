@@ -0,0 +1,103 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.port.out.SessionRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Envia las sesiones nuevas al {@link GroupCommitSessionWriter} en lugar de insertarlas una a una
+ * delante de otro {@link SessionRepository}; el resto de operaciones, incluido el guardado de una
+ * sesion ya existente (logout), pasan tal cual.
+ * <p>
+ * La sesion se confirma en la transaccion del escritor, antes que la del llamante. Si esta acaba
+ * en rollback (p. ej. falla el rehash del login), el token no llega al cliente y la sesion se
+ * cierra con {@link GroupCommitSessionWriter#discard}.
+ */
+public class GroupCommitSessionRepository implements SessionRepository {
+
+    private final SessionRepository delegate;
+    private final GroupCommitSessionWriter writer;
+
+    public GroupCommitSessionRepository(SessionRepository delegate, GroupCommitSessionWriter writer) {
+        this.delegate = delegate;
+        this.writer = writer;
+    }
+
+    @Override
+    public Session save(Session session) {
+        if (session.getId() != null) {
+            return delegate.save(session);
+        }
+        Session saved = writer.write(session);
+        TransactionCallbacks.afterRollback(() -> writer.discard(saved));
+        return saved;
+    }
+
+    @Override
+    public Optional<Session> findByToken(String token) {
+        return delegate.findByToken(token);
+    }
+
+    @Override
+    public Optional<SessionValidation> findValidationByToken(String token) {
+        return delegate.findValidationByToken(token);
+    }
+
+    @Override
+    public Map<String, SessionValidation> findValidationsByTokens(Collection<String> tokens) {
+        return delegate.findValidationsByTokens(tokens);
+    }
+
+    @Override
+    public List<Session> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public List<Session> findActivePage(PageCursor after, int limit) {
+        return delegate.findActivePage(after, limit);
+    }
+
+    @Override
+    public long countActive() {
+        return delegate.countActive();
+    }
+
+    @Override
+    public Stream<Session> streamAllActive() {
+        return delegate.streamAllActive();
+    }
+
+    @Override
+    public List<Session> findAllActiveByUserId(Long userId) {
+        return delegate.findAllActiveByUserId(userId);
+    }
+
+    @Override
+    public int deactivateAllByUserId(Long userId) {
+        return delegate.deactivateAllByUserId(userId);
+    }
+
+    @Override
+    public int deactivateCreatedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.deactivateCreatedBefore(cutoff, limit);
+    }
+
+    @Override
+    public int archiveInactiveCreatedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.archiveInactiveCreatedBefore(cutoff, limit);
+    }
+
+    @Override
+    public int purgeArchivedBefore(LocalDateTime cutoff, int limit) {
+        return delegate.purgeArchivedBefore(cutoff, limit);
+    }
+}
@@ -0,0 +1,369 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.exception.ServiceBusyException;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.SessionEntity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserta las sesiones nuevas por lotes (group commit). Cada llamante encola su sesion y se
+ * bloquea; un unico hilo junta hasta {@code maxBatchSize} filas, o las que lleguen en
+ * {@code maxDelayMs} desde la primera, las inserta con un batch JDBC y confirma una sola vez. El
+ * llamante no vuelve hasta que su lote esta confirmado, asi que la sesion es tan duradera como
+ * con un insert propio.
+ * <p>
+ * El hilo tiene una conexion propia, tomada al arrancar, que no devuelve al pool: los llamantes
+ * esperan con la conexion de su transaccion ocupada, y si el escritor tuviera que pedir otra en
+ * cada lote un pico de logins podria agotar el pool y quedarse bloqueado con ellos. Solo la cambia
+ * si deja de ser valida; si entonces el pool esta agotado, el lote falla por timeout y sus
+ * llamantes liberan sus conexiones.
+ * <p>
+ * Los ids salen de {@code sessions_seq} igual que en Hibernate: cada valor n reserva el bloque
+ * {@code (n - ID_ALLOCATION_SIZE, n]}, que el hilo reparte sin volver a la base de datos hasta
+ * agotarlo. Como cada valor lo consume una sola de las partes, los bloques no se pisan.
+ * <p>
+ * Si un lote falla se reintenta fila a fila, para que una sesion invalida no arrastre a las demas.
+ * Si la transaccion del llamante hace rollback despues de confirmarse su sesion, el token nunca
+ * llega al cliente: {@link #discard} la cierra en el siguiente ciclo del hilo.
+ */
+@Slf4j
+public class GroupCommitSessionWriter implements AutoCloseable {
+
+    private static final String NEXT_SESSION_ID = "SELECT nextval('sessions_seq')";
+
+    private static final String INSERT_SESSION = "INSERT INTO sessions (id, user_id, token_hash, ip_address, created_at, active) "
+            + "VALUES (?, ?, ?, ?, ?, true)";
+
+    private static final String DEACTIVATE_SESSION = "UPDATE sessions SET active = false WHERE id = ?";
+
+    private static final long IDLE_POLL_MS = 100;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource dataSource;
+    private final ActiveSessionIndex index;
+    private final boolean indexEnabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingSession> queue;
+    private final Queue<Session> discarded = new ConcurrentLinkedQueue<>();
+    private final SQLExceptionTranslator exceptionTranslator = new SQLStateSQLExceptionTranslator();
+    private final DistributionSummary batchSizes;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    // Solo los usa el hilo escritor
+    private Connection connection;
+    private long nextId;
+    private long lastReservedId = -1;
+
+    public GroupCommitSessionWriter(DataSource dataSource,
+                                    ActiveSessionIndex index,
+                                    boolean indexEnabled,
+                                    int maxBatchSize,
+                                    long maxDelayMs,
+                                    int queueCapacity,
+                                    MeterRegistry meterRegistry) throws SQLException {
+        this.dataSource = dataSource;
+        this.index = index;
+        this.indexEnabled = indexEnabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("sessions.group-commit.batch.size")
+                .description("Sessions inserted per group commit")
+                .register(meterRegistry);
+        Gauge.builder("sessions.group-commit.queue", queue, Collection::size)
+                .description("Sessions waiting for the next group commit")
+                .register(meterRegistry);
+
+        this.connection = openConnection();
+        this.thread = new Thread(this::run, "session-group-commit");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        log.info("Session group commit enabled: max-batch={}, max-delay={}ms", maxBatchSize, maxDelayMs);
+    }
+
+    /**
+     * Inserta la sesion en el siguiente lote y espera a que se confirme.
+     *
+     * @throws ServiceBusyException si la cola esta llena o el escritor se esta parando
+     */
+    public Session write(Session session) {
+        PendingSession pending = new PendingSession(session.toBuilder()
+                .createdAt(session.getCreatedAt() != null ? session.getCreatedAt() : LocalDateTime.now())
+                .active(true)
+                .build());
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceBusyException("session writer");
+        }
+        // Si se ha parado entre medias y nadie la ha recogido, no se va a escribir
+        if (!running && queue.remove(pending)) {
+            throw new ServiceBusyException("session writer");
+        }
+        try {
+            // join no atiende interrupciones: la fila puede confirmarse igualmente y hay que saberlo
+            return pending.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Cierra una sesion ya confirmada cuyo token no llego al cliente. No espera: la saca del indice
+     * al momento y la desactiva en la tabla en el siguiente ciclo del hilo.
+     */
+    public void discard(Session session) {
+        if (indexEnabled) {
+            index.remove(session);
+        }
+        discarded.add(session);
+    }
+
+    /**
+     * Deja de aceptar sesiones, escribe las que quedan en cola y libera la conexion.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        if (thread.isAlive()) {
+            log.warn("Session group commit writer did not stop in time");
+        }
+    }
+
+    private void run() {
+        List<PendingSession> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running) {
+                try {
+                    collect(batch);
+                } catch (InterruptedException e) {
+                    running = false;
+                }
+                flush(batch);
+                deactivateDiscarded();
+            }
+            while (queue.drainTo(batch, maxBatchSize) > 0) {
+                flush(batch);
+            }
+            deactivateDiscarded();
+        } finally {
+            closeConnection();
+        }
+    }
+
+    /*
+     * Espera la primera sesion sin limite (en tramos, para ver la parada) y las demas como mucho
+     * hasta maxDelay despues de ella
+     */
+    private void collect(List<PendingSession> batch) throws InterruptedException {
+        PendingSession first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        long deadline = System.nanoTime() + maxDelayNanos;
+        batch.add(first);
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            PendingSession next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingSession> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Session> saved;
+        try {
+            saved = insert(batch);
+        } catch (SQLException | RuntimeException e) {
+            rollback();
+            if (batch.size() > 1) {
+                log.warn("Group commit of {} sessions failed, retrying one by one: {}", batch.size(), e.getMessage());
+                for (PendingSession pending : new ArrayList<>(batch)) {
+                    flush(new ArrayList<>(Collections.singletonList(pending)));
+                }
+            } else {
+                batch.get(0).result.completeExceptionally(translate(e));
+            }
+            batch.clear();
+            return;
+        }
+        batchSizes.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (indexEnabled) {
+                index.put(saved.get(i));
+            }
+            batch.get(i).result.complete(saved.get(i));
+        }
+        batch.clear();
+    }
+
+    private List<Session> insert(List<PendingSession> batch) throws SQLException {
+        Connection connection = connection();
+        List<Session> saved = new ArrayList<>(batch.size());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SESSION)) {
+            for (PendingSession pending : batch) {
+                Session session = pending.session.toBuilder().id(nextId(connection)).build();
+                insert.setLong(1, session.getId());
+                insert.setLong(2, session.getUser().getId());
+                insert.setBytes(3, session.getTokenDigest().toBytes());
+                insert.setString(4, session.getIpAddress());
+                insert.setTimestamp(5, Timestamp.valueOf(session.getCreatedAt()));
+                insert.addBatch();
+                saved.add(session);
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return saved;
+    }
+
+    /*
+     * Un bloque que empezase por debajo de 1 (el primer valor de la secuencia) se descarta
+     */
+    private long nextId(Connection connection) throws SQLException {
+        while (nextId > lastReservedId) {
+            long reserved = nextSequenceValue(connection);
+            if (reserved >= SessionEntity.ID_ALLOCATION_SIZE) {
+                lastReservedId = reserved;
+                nextId = reserved - SessionEntity.ID_ALLOCATION_SIZE + 1;
+            }
+        }
+        return nextId++;
+    }
+
+    private static long nextSequenceValue(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(NEXT_SESSION_ID);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void deactivateDiscarded() {
+        List<Session> sessions = new ArrayList<>();
+        for (Session session = discarded.poll(); session != null; session = discarded.poll()) {
+            sessions.add(session);
+        }
+        if (sessions.isEmpty()) {
+            return;
+        }
+        try {
+            Connection connection = connection();
+            try (PreparedStatement deactivate = connection.prepareStatement(DEACTIVATE_SESSION)) {
+                for (Session session : sessions) {
+                    deactivate.setLong(1, session.getId());
+                    deactivate.addBatch();
+                }
+                deactivate.executeBatch();
+            }
+            connection.commit();
+            log.info("Closed {} sessions of rolled back logins", sessions.size());
+        } catch (SQLException | RuntimeException e) {
+            rollback();
+            log.error("Could not close {} sessions of rolled back logins: {}", sessions.size(), e.getMessage());
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null) {
+            connection = openConnection();
+        }
+        return connection;
+    }
+
+    // isValid obliga a tomar ya la conexion fisica tambien detras de LazyConnectionDataSourceProxy
+    private Connection openConnection() throws SQLException {
+        Connection opened = dataSource.getConnection();
+        try {
+            opened.setAutoCommit(false);
+            if (!opened.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Group commit connection is not valid");
+            }
+            return opened;
+        } catch (SQLException e) {
+            opened.close();
+            throw e;
+        }
+    }
+
+    /*
+     * Se conserva la conexion mientras siga siendo valida: pedir otra con el pool agotado por los
+     * llamantes solo acabaria en timeout
+     */
+    private void rollback() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.rollback();
+            if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return;
+            }
+        } catch (SQLException e) {
+            log.debug("Discarding group commit connection: {}", e.getMessage());
+        }
+        closeConnection();
+    }
+
+    // Cerrarla descarta tambien lo que no se haya confirmado
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error closing group commit connection: {}", e.getMessage());
+        }
+        connection = null;
+    }
+
+    private RuntimeException translate(Exception e) {
+        if (e instanceof SQLException) {
+            return exceptionTranslator.translate("Session group commit", INSERT_SESSION, (SQLException) e);
+        }
+        return (RuntimeException) e;
+    }
+
+    private static final class PendingSession {
+
+        private final Session session;
+        private final CompletableFuture<Session> result = new CompletableFuture<>();
+
+        private PendingSession(Session session) {
+            this.session = session;
+        }
+    }
+}
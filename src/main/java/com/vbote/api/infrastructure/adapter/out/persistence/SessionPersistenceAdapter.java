@@ -0,0 +1,246 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.model.TokenDigest;
+import com.vbote.api.domain.port.out.SessionRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.SessionEntity;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.vbote.api.infrastructure.adapter.out.persistence.mapper.SessionPersistenceMapper;
+import com.vbote.api.infrastructure.adapter.out.persistence.projection.SessionKeyView;
+import com.vbote.api.infrastructure.adapter.out.persistence.projection.SessionValidationRow;
+import com.vbote.api.infrastructure.adapter.out.persistence.repository.JpaSessionArchiveRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.repository.JpaSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementa {@link SessionRepository} sobre JPA con un {@link ActiveSessionIndex} en memoria.
+ * <p>
+ * Las lecturas por token y por usuario se resuelven en el indice sin ir a la base de datos; las
+ * escrituras van primero a JPA y se reflejan en el indice al confirmar la transaccion, de modo
+ * que el indice solo refleja lo que ya es visible en la base de datos. El indice
+ * solo es fiable con una unica instancia de la API: con varias, desactivarlo mediante
+ * {@code vbote.sessions.index.enabled=false}.
+ */
+@Component
+@Slf4j
+public class SessionPersistenceAdapter implements SessionRepository {
+
+    private final JpaSessionRepository jpaSessionRepository;
+    private final JpaSessionArchiveRepository jpaSessionArchiveRepository;
+    private final SessionPersistenceMapper mapper;
+    private final ActiveSessionIndex index;
+    private final EntityManager entityManager;
+    private final boolean indexEnabled;
+
+    public SessionPersistenceAdapter(JpaSessionRepository jpaSessionRepository,
+                                     JpaSessionArchiveRepository jpaSessionArchiveRepository,
+                                     SessionPersistenceMapper mapper,
+                                     ActiveSessionIndex index,
+                                     EntityManager entityManager,
+                                     @Value("${vbote.sessions.index.enabled:true}") boolean indexEnabled) {
+        this.jpaSessionRepository = jpaSessionRepository;
+        this.jpaSessionArchiveRepository = jpaSessionArchiveRepository;
+        this.mapper = mapper;
+        this.index = index;
+        this.entityManager = entityManager;
+        this.indexEnabled = indexEnabled;
+    }
+
+    @PostConstruct
+    void loadIndex() {
+        if (!indexEnabled) {
+            return;
+        }
+        index.clear();
+        index.putAll(mapper.toDomainList(jpaSessionRepository.findAllActive()));
+        log.info("Active session index loaded with {} sessions", index.size());
+    }
+
+    @Override
+    public Session save(Session session) {
+        SessionEntity entity = mapper.toEntity(session);
+        entity.setUser(entityManager.getReference(UserEntity.class, session.getUser().getId()));
+
+        SessionEntity savedEntity = jpaSessionRepository.save(entity);
+
+        Session savedSession = session.toBuilder()
+                .id(savedEntity.getId())
+                .createdAt(savedEntity.getCreatedAt())
+                .active(savedEntity.getActive())
+                .build();
+
+        if (indexEnabled) {
+            TransactionCallbacks.afterCommit(() -> index.put(savedSession));
+        }
+        return savedSession;
+    }
+
+    /*
+     * El indice solo tiene las sesiones activas: si no esta, se busca en la tabla, que tambien
+     * devuelve las cerradas (un segundo logout del mismo token la encuentra, como sin indice)
+     */
+    @Override
+    public Optional<Session> findByToken(String token) {
+        if (indexEnabled) {
+            Optional<Session> active = index.findByToken(token);
+            if (active.isPresent()) {
+                return active;
+            }
+        }
+        return jpaSessionRepository.findByTokenHash(TokenDigest.of(token).toBytes()).map(mapper::toDomain);
+    }
+
+    /*
+     * Sin indice: una consulta por el indice unico del digest del token que solo trae las columnas
+     * necesarias, sin cargar entidades
+     */
+    @Override
+    public Optional<SessionValidation> findValidationByToken(String token) {
+        if (indexEnabled) {
+            return index.findByToken(token).map(SessionValidation::of);
+        }
+        return jpaSessionRepository.findValidationByTokenHash(TokenDigest.of(token).toBytes());
+    }
+
+    /*
+     * Sin indice: un unico IN sobre el indice unico de token_hash; cada fila vuelve a su token
+     * por el digest
+     */
+    @Override
+    public Map<String, SessionValidation> findValidationsByTokens(Collection<String> tokens) {
+        Map<String, SessionValidation> validations = new HashMap<>();
+        if (indexEnabled) {
+            for (String token : tokens) {
+                index.findByToken(token).ifPresent(session -> validations.put(token, SessionValidation.of(session)));
+            }
+            return validations;
+        }
+
+        Map<TokenDigest, String> tokensByDigest = new HashMap<>();
+        tokens.forEach(token -> tokensByDigest.put(TokenDigest.of(token), token));
+        if (tokensByDigest.isEmpty()) {
+            return validations;
+        }
+        List<byte[]> tokenHashes = new ArrayList<>(tokensByDigest.size());
+        tokensByDigest.keySet().forEach(digest -> tokenHashes.add(digest.toBytes()));
+        for (SessionValidationRow row : jpaSessionRepository.findValidationsByTokenHashIn(tokenHashes)) {
+            validations.put(tokensByDigest.get(TokenDigest.fromBytes(row.getTokenHash())), row.getValidation());
+        }
+        return validations;
+    }
+
+    @Override
+    public List<Session> findAllActive() {
+        return mapper.toDomainList(jpaSessionRepository.findAllActive());
+    }
+
+    @Override
+    public long countActive() {
+        return indexEnabled ? index.size() : jpaSessionRepository.countByActiveTrue();
+    }
+
+    @Override
+    public List<Session> findActivePage(PageCursor after, int limit) {
+        // Keyset: siempre LIMIT sin OFFSET, la posicion la marca el cursor
+        PageRequest firstRows = PageRequest.of(0, limit);
+        List<SessionEntity> rows = after == null
+                ? jpaSessionRepository.findActiveFirstPage(firstRows)
+                : jpaSessionRepository.findActivePageAfter(after.getCreatedAt(), after.getId(), firstRows);
+        return mapper.toDomainList(rows);
+    }
+
+    @Override
+    public Stream<Session> streamAllActive() {
+        // Se desacopla cada fila ya mapeada para que el contexto de persistencia no crezca
+        return jpaSessionRepository.streamAllActive()
+                .map(entity -> {
+                    Session session = mapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    entityManager.detach(entity.getUser());
+                    return session;
+                });
+    }
+
+    @Override
+    public List<Session> findAllActiveByUserId(Long userId) {
+        if (indexEnabled) {
+            return index.findAllByUserId(userId);
+        }
+        return mapper.toDomainList(jpaSessionRepository.findAllActiveByUserId(userId));
+    }
+
+    @Override
+    public int deactivateAllByUserId(Long userId) {
+        int deactivated = jpaSessionRepository.deactivateAllByUserId(userId);
+        if (indexEnabled) {
+            TransactionCallbacks.afterCommit(() -> index.removeAllByUserId(userId));
+        }
+        return deactivated;
+    }
+
+    /*
+     * Equivale a UPDATE ... WHERE created_at < ? LIMIT n de forma portable: se eligen los ids por
+     * el indice (active, created_at) y se actualizan solo esos.
+     */
+    @Override
+    public int deactivateCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<SessionKeyView> expired = jpaSessionRepository.findActiveKeysCreatedBefore(cutoff, PageRequest.of(0, limit));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        int deactivated = jpaSessionRepository.deactivateAllByIdIn(
+                expired.stream().map(SessionKeyView::getId).collect(Collectors.toList()));
+        if (indexEnabled) {
+            TransactionCallbacks.afterCommit(() -> expired.forEach(
+                    session -> index.remove(TokenDigest.fromBytes(session.getTokenHash()), session.getUserId())));
+        }
+        return deactivated;
+    }
+
+    /*
+     * Copia y borrado en la misma transaccion: una sesion esta en la tabla caliente o en el archivo,
+     * nunca en las dos ni en ninguna. Las sesiones inactivas no estan en el indice
+     */
+    @Override
+    public int archiveInactiveCreatedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> ids = jpaSessionRepository.findInactiveIdsCreatedBefore(cutoff, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = jpaSessionArchiveRepository.copyInactiveSessions(ids, LocalDateTime.now());
+        int deleted = jpaSessionRepository.deleteInactiveByIdIn(ids);
+        if (copied != deleted) {
+            throw new IllegalStateException(
+                    "Archived " + copied + " sessions but removed " + deleted + " from the hot table");
+        }
+        return deleted;
+    }
+
+    @Override
+    public int purgeArchivedBefore(LocalDateTime cutoff, int limit) {
+        List<Long> ids = jpaSessionArchiveRepository.findIdsArchivedBefore(cutoff, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaSessionArchiveRepository.deleteAllByIdIn(ids);
+    }
+}
@@ -0,0 +1,109 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Agrupa las cargas concurrentes de una misma clave: el primer llamante (lider) ejecuta la carga
+ * en su hilo y los que llegan mientras tanto esperan su resultado, o su excepcion. En cuanto la
+ * carga termina la clave deja de estar en vuelo, asi que no se guarda ningun resultado: la
+ * siguiente llamada vuelve a cargar.
+ * <p>
+ * Cada seguidor recibe su propia copia ({@code copy}), porque los valores del dominio son
+ * mutables; el lider solo copia si alguien ha esperado su resultado.
+ * <p>
+ * Si se interrumpe a un seguidor, deja de esperar con {@link CancellationException} y la carga
+ * sigue para los demas. Si la carga del lider falla estando este interrumpido, los seguidores no
+ * reciben ese fallo, que no es suyo: vuelven a intentarlo y uno de ellos pasa a ser el lider.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Call<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copy;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, UnaryOperator<V> copy, MeterRegistry meterRegistry) {
+        this.copy = copy;
+        this.coalesced = Counter.builder("repository.lookups.coalesced")
+                .description("Lookups served by a concurrent identical lookup already in flight")
+                .tag("lookup", name)
+                .register(meterRegistry);
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        while (true) {
+            Call<V> mine = new Call<>();
+            Call<V> call = inFlight.compute(key, (k, existing) -> {
+                if (existing == null) {
+                    return mine;
+                }
+                existing.followers++;
+                return existing;
+            });
+            if (call == mine) {
+                return lead(key, mine, loader);
+            }
+            coalesced.increment();
+            try {
+                return copy.apply(call.result.get());
+            } catch (CancellationException e) {
+                // El lider se interrumpio: se repite la carga
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for an in-flight lookup");
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    /*
+     * La clave se retira antes de publicar el resultado: despues ya no se une nadie y followers
+     * es definitivo (se modifica dentro de compute, con el mismo bloqueo que remove)
+     */
+    private V lead(K key, Call<V> call, Supplier<V> loader) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, call);
+            if (Thread.currentThread().isInterrupted()) {
+                call.result.cancel(false);
+            } else {
+                call.result.completeExceptionally(e);
+            }
+            throw e;
+        }
+        inFlight.remove(key, call);
+        call.result.complete(value);
+        return call.followers > 0 ? copy.apply(value) : value;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private static final class Call<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private int followers;
+    }
+}
@@ -0,0 +1,54 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.infrastructure.adapter.out.persistence.routing.ReadReplicaRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Ejecuta la accion al confirmar la transaccion actual, o en el momento si no hay ninguna.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Ejecuta la accion si la transaccion actual termina en rollback; sin transaccion no hace nada.
+     */
+    static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Si el resultado de una lectura sirve a otros hilos: sin transaccion o en una de solo lectura
+     * (no hay escrituras propias sin confirmar) y sin lecturas forzadas al primario.
+     */
+    static boolean isSharedRead() {
+        return (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+                && !ReadReplicaRoutingDataSource.isPrimaryForced();
+    }
+}
@@ -0,0 +1,165 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.UserRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.vbote.api.infrastructure.adapter.out.persistence.mapper.UserPersistenceMapper;
+import com.vbote.api.infrastructure.adapter.out.persistence.repository.JpaUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementa {@link UserRepository} sobre JPA.
+ * <p>
+ * Los listados filtrados se construyen con una unica Criteria query que solo incluye los
+ * predicados informados. El filtro por username es por prefijo ({@code LIKE 'abc%'}) para que lo
+ * resuelva el indice unico de {@code username} en lugar de un recorrido completo.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPersistenceAdapter implements UserRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final JpaUserRepository jpaUserRepository;
+    private final UserPersistenceMapper mapper;
+    private final ActiveSessionIndex sessionIndex;
+    private final EntityManager entityManager;
+
+    @Override
+    public User save(User user) {
+        UserEntity savedEntity = jpaUserRepository.save(mapper.toEntity(user));
+        User savedUser = mapper.toDomain(savedEntity);
+
+        // Las sesiones indexadas guardan una copia del usuario (p. ej. para saber si esta bloqueado)
+        TransactionCallbacks.afterCommit(() -> sessionIndex.refreshUser(savedUser));
+        return savedUser;
+    }
+
+    /*
+     * Con ids por secuencia e hibernate.jdbc.batch_size los INSERT se envian en batch.
+     * Se hace flush aqui para que un conflicto de unicidad falle dentro del lote.
+     */
+    @Override
+    public List<User> saveAll(List<User> users) {
+        if (users.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<UserEntity> entities = users.stream().map(mapper::toEntity).collect(Collectors.toList());
+        return mapper.toDomainList(jpaUserRepository.saveAllAndFlush(entities));
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return jpaUserRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return jpaUserRepository.findByUsername(username).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return mapper.toDomainList(jpaUserRepository.findAll());
+    }
+
+    @Override
+    public List<User> findAllWithFilters(String username, User.Role role, Boolean blocked) {
+        return mapper.toDomainList(filteredQuery(username, role, blocked, null).getResultList());
+    }
+
+    /*
+     * Los listados del panel de administracion (GET /api/users y equivalentes) se repiten cada
+     * pocos segundos: van a la cache de consultas, con el cursor y el limite como parte de la
+     * clave, y Hibernate la invalida en cuanto se escribe un usuario
+     */
+    @Override
+    public List<User> findPageWithFilters(String username, User.Role role, Boolean blocked,
+                                          PageCursor after, int limit) {
+        return mapper.toDomainList(filteredQuery(username, role, blocked, after)
+                .setMaxResults(limit)
+                .setHint(QueryHints.HINT_CACHEABLE, true)
+                .setHint(QueryHints.HINT_CACHE_REGION, UserEntity.QUERY_CACHE_REGION)
+                .getResultList());
+    }
+
+    @Override
+    public Stream<User> streamAllWithFilters(String username, User.Role role, Boolean blocked) {
+        return filteredQuery(username, role, blocked, null)
+                .setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream()
+                .map(entity -> {
+                    User user = mapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    return user;
+                });
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return jpaUserRepository.existsByUsername(username);
+    }
+
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return new HashSet<>();
+        }
+        return jpaUserRepository.findExistingUsernames(usernames);
+    }
+
+    private TypedQuery<UserEntity> filteredQuery(String username, User.Role role, Boolean blocked,
+                                                 PageCursor after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserEntity> query = cb.createQuery(UserEntity.class);
+        Root<UserEntity> user = query.from(UserEntity.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (username != null && !username.isEmpty()) {
+            predicates.add(cb.like(user.get("username"), escapeLike(username) + "%", LIKE_ESCAPE));
+        }
+        if (role != null) {
+            predicates.add(cb.equal(user.get("role"), role));
+        }
+        if (blocked != null) {
+            predicates.add(cb.equal(user.get("blocked"), blocked));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(user.get("createdAt"), after.getCreatedAt()),
+                    cb.and(
+                            cb.equal(user.get("createdAt"), after.getCreatedAt()),
+                            cb.greaterThan(user.get("id"), after.getId()))));
+        }
+
+        query.select(user)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(user.get("createdAt")), cb.asc(user.get("id")));
+        return entityManager.createQuery(query);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,52 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Copia de solo anexado de una sesion inactiva movida fuera de {@code sessions}.
+ * <p>
+ * Conserva el id original y no tiene clave foranea hacia {@code users}: el archivo no debe
+ * bloquear ni depender de la tabla caliente.
+ */
+@Entity
+@Table(name = "sessions_archive", indexes = {
+        @Index(name = "idx_sessions_archive_archived", columnList = "archived_at, id"),
+        @Index(name = "idx_sessions_archive_user", columnList = "user_id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionArchiveEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "token_hash", nullable = false, length = 32)
+    private byte[] tokenHash;
+
+    @Column(name = "ip_address", length = 45)
+    private String ipAddress;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+}
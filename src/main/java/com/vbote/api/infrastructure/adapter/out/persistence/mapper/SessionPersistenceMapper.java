@@ -0,0 +1,34 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.mapper;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenDigest;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.SessionEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", uses = UserPersistenceMapper.class)
+public interface SessionPersistenceMapper {
+
+    // En la base de datos solo esta el digest del token
+    @Mapping(target = "token", ignore = true)
+    @Mapping(target = "tokenDigest", source = "tokenHash")
+    Session toDomain(SessionEntity entity);
+
+    // El usuario se asigna en el adapter con una referencia para no cargarlo de nuevo
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "tokenHash", source = "tokenDigest")
+    SessionEntity toEntity(Session session);
+
+    List<Session> toDomainList(List<SessionEntity> entities);
+
+    default TokenDigest toTokenDigest(byte[] tokenHash) {
+        return tokenHash != null ? TokenDigest.fromBytes(tokenHash) : null;
+    }
+
+    default byte[] toTokenHash(TokenDigest tokenDigest) {
+        return tokenDigest != null ? tokenDigest.toBytes() : null;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.mapper;
+
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.UserEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface UserPersistenceMapper {
+
+    User toDomain(UserEntity entity);
+
+    UserEntity toEntity(User user);
+
+    List<User> toDomainList(List<UserEntity> entities);
+
+}
@@ -0,0 +1,11 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.projection;
+
+public interface SessionKeyView {
+
+    Long getId();
+
+    byte[] getTokenHash();
+
+    Long getUserId();
+
+}
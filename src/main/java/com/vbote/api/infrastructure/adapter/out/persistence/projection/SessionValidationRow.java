@@ -0,0 +1,22 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.projection;
+
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.model.User;
+import lombok.Getter;
+
+/**
+ * {@link SessionValidation} junto al digest del token de la fila, para asociar cada fila de una
+ * consulta por lote con el token que la pidio.
+ */
+@Getter
+public class SessionValidationRow {
+
+    private final byte[] tokenHash;
+    private final SessionValidation validation;
+
+    public SessionValidationRow(byte[] tokenHash, Long sessionId, Boolean active, Long userId, String username,
+                                User.Role role, Boolean blocked) {
+        this.tokenHash = tokenHash;
+        this.validation = new SessionValidation(sessionId, active, userId, username, role, blocked);
+    }
+}
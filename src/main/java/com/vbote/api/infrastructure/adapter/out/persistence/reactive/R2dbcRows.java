@@ -0,0 +1,51 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.reactive;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenDigest;
+import com.vbote.api.domain.model.User;
+import io.r2dbc.spi.Row;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conversion de filas R2DBC al modelo de dominio. Las columnas del usuario de una sesion llevan
+ * el prefijo {@code user_} en la consulta.
+ */
+final class R2dbcRows {
+
+    static final String USER_COLUMNS = "id, username, password, role, blocked, created_at, updated_at";
+
+    static final String SESSION_WITH_USER_COLUMNS = "s.id, s.token_hash, s.ip_address, s.created_at, s.active, "
+            + "u.id AS user_id, u.username AS user_username, u.password AS user_password, u.role AS user_role, "
+            + "u.blocked AS user_blocked, u.created_at AS user_created_at, u.updated_at AS user_updated_at";
+
+    private R2dbcRows() {
+    }
+
+    static User toUser(Row row) {
+        return toUser(row, "");
+    }
+
+    static Session toSession(Row row) {
+        return Session.builder()
+                .id(row.get("id", Long.class))
+                .user(toUser(row, "user_"))
+                .tokenDigest(TokenDigest.fromBytes(row.get("token_hash", byte[].class)))
+                .ipAddress(row.get("ip_address", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .active(row.get("active", Boolean.class))
+                .build();
+    }
+
+    private static User toUser(Row row, String prefix) {
+        return User.builder()
+                .id(row.get(prefix + "id", Long.class))
+                .username(row.get(prefix + "username", String.class))
+                .password(row.get(prefix + "password", String.class))
+                .role(User.Role.valueOf(row.get(prefix + "role", String.class)))
+                .blocked(row.get(prefix + "blocked", Boolean.class))
+                .createdAt(row.get(prefix + "created_at", LocalDateTime.class))
+                .updatedAt(row.get(prefix + "updated_at", LocalDateTime.class))
+                .build();
+    }
+}
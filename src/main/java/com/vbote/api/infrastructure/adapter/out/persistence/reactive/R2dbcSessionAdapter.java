@@ -0,0 +1,107 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.reactive;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenDigest;
+import com.vbote.api.domain.port.out.ReactiveSessionRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.ActiveSessionIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementa {@link ReactiveSessionRepository} con SQL sobre {@link DatabaseClient}.
+ * <p>
+ * Comparte el {@link ActiveSessionIndex} con el adaptador JPA: con el indice activo las lecturas
+ * por token no van a la base de datos, y cada insercion o desactivacion se refleja en el indice
+ * en cuanto la sentencia termina (cada una es su propia transaccion).
+ */
+@Component
+@ConditionalOnProperty(name = "vbote.reactive.enabled", havingValue = "true")
+public class R2dbcSessionAdapter implements ReactiveSessionRepository {
+
+    /*
+     * Hibernate reserva con el optimizador pooled los ids (n - 50, n] de cada valor n de la
+     * secuencia; usar n tal cual no pisa ningun bloque suyo
+     */
+    private static final String NEXT_SESSION_ID = "SELECT nextval('sessions_seq')";
+
+    private static final String INSERT_SESSION = "INSERT INTO sessions (id, user_id, token_hash, ip_address, created_at, active) "
+            + "VALUES (:id, :userId, :tokenHash, :ipAddress, :createdAt, true)";
+
+    private static final String SELECT_BY_TOKEN = "SELECT " + R2dbcRows.SESSION_WITH_USER_COLUMNS
+            + " FROM sessions s JOIN users u ON u.id = s.user_id WHERE s.token_hash = :tokenHash";
+
+    private static final String DEACTIVATE = "UPDATE sessions SET active = false WHERE id = :id AND active = true";
+
+    private final DatabaseClient databaseClient;
+    private final ActiveSessionIndex index;
+    private final boolean indexEnabled;
+
+    public R2dbcSessionAdapter(DatabaseClient databaseClient,
+                               ActiveSessionIndex index,
+                               @Value("${vbote.sessions.index.enabled:true}") boolean indexEnabled) {
+        this.databaseClient = databaseClient;
+        this.index = index;
+        this.indexEnabled = indexEnabled;
+    }
+
+    @Override
+    public Mono<Session> save(Session session) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        return databaseClient.sql(NEXT_SESSION_ID)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> {
+                    DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_SESSION)
+                            .bind("id", id)
+                            .bind("userId", session.getUser().getId())
+                            .bind("tokenHash", session.getTokenDigest().toBytes())
+                            .bind("createdAt", createdAt);
+                    insert = session.getIpAddress() != null
+                            ? insert.bind("ipAddress", session.getIpAddress())
+                            : insert.bindNull("ipAddress", String.class);
+                    return insert.fetch().rowsUpdated()
+                            .thenReturn(session.toBuilder()
+                                    .id(id)
+                                    .createdAt(createdAt)
+                                    .active(true)
+                                    .build());
+                })
+                .doOnNext(saved -> {
+                    if (indexEnabled) {
+                        index.put(saved);
+                    }
+                });
+    }
+
+    // Igual que SessionPersistenceAdapter: las sesiones cerradas no estan en el indice, pero existen
+    @Override
+    public Mono<Session> findByToken(String token) {
+        Mono<Session> fromTable = databaseClient.sql(SELECT_BY_TOKEN)
+                .bind("tokenHash", TokenDigest.of(token).toBytes())
+                .map((row, metadata) -> R2dbcRows.toSession(row))
+                .one();
+        if (indexEnabled) {
+            return Mono.justOrEmpty(index.findByToken(token)).switchIfEmpty(fromTable);
+        }
+        return fromTable;
+    }
+
+    @Override
+    public Mono<Boolean> deactivate(Session session) {
+        return databaseClient.sql(DEACTIVATE)
+                .bind("id", session.getId())
+                .fetch()
+                .rowsUpdated()
+                .map(updated -> updated > 0)
+                .doOnNext(deactivated -> {
+                    if (indexEnabled) {
+                        index.remove(session);
+                    }
+                });
+    }
+}
@@ -0,0 +1,85 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.reactive;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Implementa {@link ReactiveUserRepository} con SQL sobre {@link DatabaseClient}, contra las
+ * mismas tablas que crea JPA. Solo lectura: las altas y cambios de usuarios siguen por JPA.
+ */
+@Component
+@ConditionalOnProperty(name = "vbote.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class R2dbcUserAdapter implements ReactiveUserRepository {
+
+    private static final String SELECT_USERS = "SELECT " + R2dbcRows.USER_COLUMNS + " FROM users";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql(SELECT_USERS + " WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> R2dbcRows.toUser(row))
+                .one();
+    }
+
+    @Override
+    public Mono<User> findByUsername(String username) {
+        return databaseClient.sql(SELECT_USERS + " WHERE username = :username")
+                .bind("username", username)
+                .map((row, metadata) -> R2dbcRows.toUser(row))
+                .one();
+    }
+
+    /*
+     * Mismos filtros y keyset (created_at, id) que UserPersistenceAdapter.filteredQuery
+     */
+    @Override
+    public Flux<User> findPageWithFilters(String username, User.Role role, Boolean blocked,
+                                          PageCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_USERS).append(" WHERE 1 = 1");
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (username != null && !username.isEmpty()) {
+            sql.append(" AND username LIKE :username ESCAPE '\\'");
+            params.put("username", escapeLike(username) + "%");
+        }
+        if (role != null) {
+            sql.append(" AND role = :role");
+            params.put("role", role.name());
+        }
+        if (blocked != null) {
+            sql.append(" AND blocked = :blocked");
+            params.put("blocked", blocked);
+        }
+        if (after != null) {
+            sql.append(" AND (created_at > :afterCreatedAt OR (created_at = :afterCreatedAt AND id > :afterId))");
+            params.put("afterCreatedAt", after.getCreatedAt());
+            params.put("afterId", after.getId());
+        }
+        sql.append(" ORDER BY created_at, id LIMIT :limit");
+        params.put("limit", limit);
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map((row, metadata) -> R2dbcRows.toUser(row)).all();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,33 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.repository;
+
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.SessionArchiveEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaSessionArchiveRepository extends JpaRepository<SessionArchiveEntity, Long> {
+
+    /*
+     * INSERT ... SELECT de HQL: las filas se copian en la base de datos sin pasar por el contexto
+     * de persistencia
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO SessionArchiveEntity (id, userId, tokenHash, ipAddress, createdAt, archivedAt) "
+            + "SELECT s.id, s.user.id, s.tokenHash, s.ipAddress, s.createdAt, :archivedAt "
+            + "FROM SessionEntity s WHERE s.active = false AND s.id IN :ids")
+    int copyInactiveSessions(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Query("SELECT a.id FROM SessionArchiveEntity a WHERE a.archivedAt < :cutoff ORDER BY a.archivedAt, a.id")
+    List<Long> findIdsArchivedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM SessionArchiveEntity a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+}
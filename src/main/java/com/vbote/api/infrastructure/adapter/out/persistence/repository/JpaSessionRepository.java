@@ -0,0 +1,80 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.repository;
+
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.SessionEntity;
+import com.vbote.api.infrastructure.adapter.out.persistence.projection.SessionKeyView;
+import com.vbote.api.infrastructure.adapter.out.persistence.projection.SessionValidationRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface JpaSessionRepository extends JpaRepository<SessionEntity, Long> {
+
+    String STREAM_FETCH_SIZE = "500";
+
+    @Query("SELECT s FROM SessionEntity s JOIN FETCH s.user WHERE s.tokenHash = :tokenHash")
+    Optional<SessionEntity> findByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    // Constructor en la consulta: evita el proxy por fila de las proyecciones por interfaz
+    @Query("SELECT new com.vbote.api.domain.model.SessionValidation(s.id, s.active, u.id, u.username, u.role, u.blocked) "
+            + "FROM SessionEntity s JOIN s.user u WHERE s.tokenHash = :tokenHash")
+    Optional<SessionValidation> findValidationByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    @Query("SELECT new com.vbote.api.infrastructure.adapter.out.persistence.projection.SessionValidationRow("
+            + "s.tokenHash, s.id, s.active, u.id, u.username, u.role, u.blocked) "
+            + "FROM SessionEntity s JOIN s.user u WHERE s.tokenHash IN :tokenHashes")
+    List<SessionValidationRow> findValidationsByTokenHashIn(@Param("tokenHashes") Collection<byte[]> tokenHashes);
+
+    @Query("SELECT s FROM SessionEntity s JOIN FETCH s.user WHERE s.active = true")
+    List<SessionEntity> findAllActive();
+
+    long countByActiveTrue();
+
+    @Query("SELECT s FROM SessionEntity s JOIN FETCH s.user WHERE s.active = true ORDER BY s.createdAt, s.id")
+    List<SessionEntity> findActiveFirstPage(Pageable pageable);
+
+    @Query("SELECT s FROM SessionEntity s JOIN FETCH s.user WHERE s.active = true "
+            + "AND (s.createdAt > :createdAt OR (s.createdAt = :createdAt AND s.id > :id)) "
+            + "ORDER BY s.createdAt, s.id")
+    List<SessionEntity> findActivePageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT s FROM SessionEntity s JOIN FETCH s.user WHERE s.active = true ORDER BY s.createdAt, s.id")
+    Stream<SessionEntity> streamAllActive();
+
+    @Query("SELECT s FROM SessionEntity s JOIN FETCH s.user WHERE s.active = true AND s.user.id = :userId")
+    List<SessionEntity> findAllActiveByUserId(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE SessionEntity s SET s.active = false WHERE s.active = true AND s.user.id = :userId")
+    int deactivateAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT s.id AS id, s.tokenHash AS tokenHash, s.user.id AS userId FROM SessionEntity s "
+            + "WHERE s.active = true AND s.createdAt < :cutoff ORDER BY s.createdAt")
+    List<SessionKeyView> findActiveKeysCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE SessionEntity s SET s.active = false WHERE s.active = true AND s.id IN :ids")
+    int deactivateAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.id FROM SessionEntity s WHERE s.active = false AND s.createdAt < :cutoff ORDER BY s.createdAt, s.id")
+    List<Long> findInactiveIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM SessionEntity s WHERE s.active = false AND s.id IN :ids")
+    int deleteInactiveByIdIn(@Param("ids") Collection<Long> ids);
+
+}
@@ -0,0 +1,21 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.repository;
+
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.UserEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
+
+    Optional<UserEntity> findByUsername(String username);
+
+    boolean existsByUsername(String username);
+
+    @Query("SELECT u.username FROM UserEntity u WHERE u.username IN :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+}
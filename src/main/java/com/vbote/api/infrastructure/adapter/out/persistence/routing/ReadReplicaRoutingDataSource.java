@@ -0,0 +1,224 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.routing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Envia las transacciones {@code readOnly} a una replica y el resto al primario.
+ * <p>
+ * Entre las replicas disponibles se elige la que tiene menos conexiones prestadas (empates en
+ * rotacion). Si una replica falla al dar conexion queda fuera durante {@code retryAfterMs} y se
+ * prueba la siguiente; sin replicas disponibles la lectura va al primario.
+ * <p>
+ * La decision se toma al pedir la conexion, asi que debe usarse detras de un
+ * {@code LazyConnectionDataSourceProxy}: el gestor de transacciones pide la conexion antes de
+ * marcar la transaccion como de solo lectura, y el proxy retrasa la conexion real hasta la
+ * primera sentencia.
+ * <p>
+ * Las metricas se publican con {@link #bindTo(MeterRegistry)} y no en el constructor, porque el
+ * registro de metricas depende a su vez del {@code DataSource}.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long retryAfterNanos;
+    private final AtomicInteger rotation = new AtomicInteger();
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, long retryAfterMs) {
+        this.primary = primary;
+        this.retryAfterNanos = TimeUnit.MILLISECONDS.toNanos(retryAfterMs);
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + (i + 1), replicas.get(i)));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        readsCounter(registry, "primary", primaryReads);
+        FunctionCounter.builder("datasource.replica.fallbacks", fallbacks, LongAdder::sum)
+                .description("Read-only connections sent to the primary because no replica was available")
+                .register(registry);
+        for (Replica replica : replicas) {
+            readsCounter(registry, replica.name, replica.reads);
+            Gauge.builder("datasource.replica.in-flight", replica.inFlight, AtomicInteger::get)
+                    .description("Connections currently borrowed from the replica")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+    }
+
+    private static void readsCounter(MeterRegistry registry, String target, LongAdder reads) {
+        FunctionCounter.builder("datasource.reads", reads, LongAdder::sum)
+                .description("Read-only connections by target")
+                .tag("target", target)
+                .register(registry);
+    }
+
+    /**
+     * Lleva al primario las lecturas del hilo actual hasta cerrar el ambito devuelto
+     * (read-your-writes). Los ambitos se pueden anidar.
+     */
+    public static PrimaryScope forcePrimary() {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PRIMARY_FORCED.remove();
+            } else {
+                PRIMARY_FORCED.set(previous);
+            }
+        };
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return opener.open(primary);
+        }
+        if (isPrimaryForced() || replicas.isEmpty()) {
+            primaryReads.increment();
+            return opener.open(primary);
+        }
+
+        for (Replica replica : candidates()) {
+            try {
+                return replica.track(opener.open(replica.dataSource));
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown(retryAfterNanos);
+                log.warn("Replica {} unavailable, skipping it for {} ms: {}", replica.name,
+                        TimeUnit.NANOSECONDS.toMillis(retryAfterNanos), e.getMessage());
+            }
+        }
+        fallbacks.increment();
+        primaryReads.increment();
+        return opener.open(primary);
+    }
+
+    /*
+     * Replicas disponibles de menos a mas conexiones prestadas; el orden estable mantiene la
+     * rotacion entre las empatadas
+     */
+    private List<Replica> candidates() {
+        int size = replicas.size();
+        int start = Math.floorMod(rotation.getAndIncrement(), size);
+        long now = System.nanoTime();
+        List<Replica> candidates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable(now)) {
+                candidates.add(replica);
+            }
+        }
+        candidates.sort(Comparator.comparingInt(replica -> replica.inFlight.get()));
+        return candidates;
+    }
+
+    /**
+     * Ambito de {@link #forcePrimary()}.
+     */
+    @FunctionalInterface
+    public interface PrimaryScope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder reads = new LongAdder();
+        private volatile long downUntil;
+        private volatile boolean down;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable(long now) {
+            return !down || now - downUntil >= 0;
+        }
+
+        private void markDown(long retryAfterNanos) {
+            downUntil = System.nanoTime() + retryAfterNanos;
+            down = true;
+        }
+
+        /*
+         * La conexion cuenta como prestada hasta su primer close()
+         */
+        private Connection track(Connection connection) {
+            down = false;
+            reads.increment();
+            inFlight.incrementAndGet();
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "close":
+                                if (closed.compareAndSet(false, true)) {
+                                    inFlight.decrementAndGet();
+                                }
+                                break;
+                            default:
+                                break;
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.port.in.SessionUseCase;
+import com.vbote.api.domain.port.in.UserUseCase;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Read-your-writes con replicas: tras un {@code login} o un {@code updateUser}, las lecturas de
+ * ese usuario (y de ese token) van al primario durante {@code stickiness-ms}, el retraso de
+ * replicacion que se tolera. Con {@code 0} todas las lecturas pueden ir a replicas.
+ * <p>
+ * Se ejecuta por fuera de la transaccion, asi que la escritura se marca despues del commit.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "vbote.datasource.replicas.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReadYourWritesAspect {
+
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWritesAspect(@Value("${vbote.datasource.replicas.stickiness-ms:5000}") long stickinessMs) {
+        this.recentWrites = stickinessMs > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofMillis(stickinessMs))
+                        .maximumSize(100_000)
+                        .build()
+                : null;
+    }
+
+    @AfterReturning(pointcut = "execution(public * com.vbote.api.domain.port.in.SessionUseCase+.login(..))",
+            returning = "session")
+    public void afterLogin(Session session) {
+        if (session.getUser() != null) {
+            markWrite(userKey(session.getUser().getId()));
+        }
+        markWrite(tokenKey(session.getToken()));
+    }
+
+    @AfterReturning("execution(public * com.vbote.api.domain.port.in.UserUseCase+.updateUser(..)) && args(id, ..)")
+    public void afterUpdateUser(Long id) {
+        markWrite(userKey(id));
+    }
+
+    @Around("execution(public * com.vbote.api.domain.port.in.UserUseCase+.getUserById(..)) "
+            + "|| execution(public * com.vbote.api.domain.port.in.SessionUseCase+.getActiveSessionsByUserId(..))")
+    public Object readByUser(ProceedingJoinPoint joinPoint) throws Throwable {
+        return read(joinPoint, userKey(joinPoint.getArgs()[0]));
+    }
+
+    @Around("execution(public * com.vbote.api.domain.port.in.SessionUseCase+.validateSession(..))")
+    public Object readByToken(ProceedingJoinPoint joinPoint) throws Throwable {
+        return read(joinPoint, tokenKey(joinPoint.getArgs()[0]));
+    }
+
+    @Around("execution(public * com.vbote.api.domain.port.in.SessionUseCase+.validateSessions(..))")
+    public Object readByTokens(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (recentWrites == null) {
+            return joinPoint.proceed();
+        }
+        // Basta un token reciente para leer todo el lote del primario
+        for (Object token : (Collection<?>) joinPoint.getArgs()[0]) {
+            String key = tokenKey(token);
+            if (key != null && recentWrites.getIfPresent(key) != null) {
+                return read(joinPoint, key);
+            }
+        }
+        return joinPoint.proceed();
+    }
+
+    private Object read(ProceedingJoinPoint joinPoint, String key) throws Throwable {
+        if (recentWrites == null || key == null || recentWrites.getIfPresent(key) == null) {
+            return joinPoint.proceed();
+        }
+        try (ReadReplicaRoutingDataSource.PrimaryScope ignored = ReadReplicaRoutingDataSource.forcePrimary()) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private void markWrite(String key) {
+        if (recentWrites != null && key != null) {
+            recentWrites.put(key, Boolean.TRUE);
+        }
+    }
+
+    private static String userKey(Object userId) {
+        return userId != null ? "user:" + userId : null;
+    }
+
+    private static String tokenKey(Object token) {
+        return token != null ? "token:" + token : null;
+    }
+}
@@ -0,0 +1,253 @@
+package com.vbote.api.infrastructure.adapter.out.security;
+
+import com.vbote.api.domain.exception.ServiceBusyException;
+import com.vbote.api.domain.port.out.PasswordEncoder;
+import com.vbote.api.infrastructure.observability.jfr.PasswordHashEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Implementa {@link PasswordEncoder} con BCrypt en un pool propio y acotado.
+ * <p>
+ * Asi una rafaga de logins no ocupa todos los hilos de Tomcat: como mucho {@code threads} hashes
+ * se calculan a la vez y {@code queue-capacity} esperan. Con la cola llena se rechaza al momento
+ * con {@link ServiceBusyException} (503).
+ * <p>
+ * Si no se fija {@code strength}, el coste se calibra al arrancar: se elige el mayor coste cuyo
+ * hash cabe en {@code latency-budget-ms} en esta maquina, sin bajar de {@code min-strength}.
+ */
+@Component
+@Slf4j
+public class BcryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private final int strength;
+    private final int poolSize;
+    private final BCryptPasswordEncoder bcrypt;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BcryptPasswordEncoder(@Value("${vbote.password.bcrypt.strength:0}") int strength,
+                                 @Value("${vbote.password.bcrypt.latency-budget-ms:50}") long latencyBudgetMs,
+                                 @Value("${vbote.password.bcrypt.min-strength:10}") int minStrength,
+                                 @Value("${vbote.password.bcrypt.max-strength:16}") int maxStrength,
+                                 @Value("${vbote.password.hashing.threads:0}") int threads,
+                                 @Value("${vbote.password.hashing.queue-capacity:64}") int queueCapacity,
+                                 MeterRegistry meterRegistry) {
+        this.poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.strength = strength > 0 ? strength : calibrateStrength(latencyBudgetMs, minStrength, maxStrength);
+        this.bcrypt = new BCryptPasswordEncoder(this.strength);
+        this.hashingExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", hashingExecutor, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", hashingExecutor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("password.bcrypt.strength", this, encoder -> encoder.strength)
+                .register(meterRegistry);
+
+        log.info("Password hashing pool started with {} threads, queue capacity {} and BCrypt strength {}",
+                poolSize, queueCapacity, this.strength);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return new PasswordHashEvent("encode", strength, 1)
+                .record(() -> execute(() -> encodeTimer.recordCallable(() -> bcrypt.encode(rawPassword))));
+    }
+
+    /*
+     * Como mucho poolSize tareas del lote en el pool a la vez, para no llenar la cola que comparten
+     * los logins; si aun asi se rechaza una tarea, la calcula el propio hilo llamante.
+     */
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        return new PasswordHashEvent("encodeAll", strength, rawPasswords.size())
+                .record(() -> encodeAllInPool(rawPasswords));
+    }
+
+    private List<String> encodeAllInPool(List<String> rawPasswords) {
+        List<Future<String>> pending = new ArrayList<>(rawPasswords.size());
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        for (int i = 0; i < rawPasswords.size(); i++) {
+            if (i >= poolSize) {
+                encoded.add(await(pending.get(i - poolSize)));
+            }
+            String rawPassword = rawPasswords.get(i);
+            pending.add(submitOrRunInline(() -> encodeTimer.recordCallable(() -> bcrypt.encode(rawPassword))));
+        }
+        for (int i = encoded.size(); i < rawPasswords.size(); i++) {
+            encoded.add(await(pending.get(i)));
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return new PasswordHashEvent("matches", strength, 1).record(() -> execute(
+                () -> matchesTimer.recordCallable(() -> bcrypt.matches(rawPassword, encodedPassword))));
+    }
+
+    /*
+     * En el mismo pool y con la misma cola que matches: un rechazo llega como futuro fallido
+     */
+    @Override
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        PasswordHashEvent event = new PasswordHashEvent("matches", strength, 1);
+        event.begin();
+        CompletableFuture<Boolean> result;
+        try {
+            result = CompletableFuture.supplyAsync(
+                    () -> matchesTimer.record(() -> bcrypt.matches(rawPassword, encodedPassword)), hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(rejected());
+        }
+        return result.whenComplete((matched, failure) -> event.complete(failure));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    int getStrength() {
+        return strength;
+    }
+
+    /*
+     * Mediana de unas pocas muestras por coste; cada coste duplica el tiempo, asi que se para
+     * en cuanto uno se pasa del presupuesto.
+     */
+    static int calibrateStrength(long latencyBudgetMs, int minStrength, int maxStrength) {
+        new BCryptPasswordEncoder(minStrength).encode("calibration-warmup");
+
+        int selected = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(candidate);
+            long[] samples = new long[CALIBRATION_SAMPLES];
+            for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+                long start = System.nanoTime();
+                encoder.encode("calibration-password");
+                samples[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(samples);
+            long medianMs = TimeUnit.NANOSECONDS.toMillis(samples[CALIBRATION_SAMPLES / 2]);
+            log.debug("BCrypt strength {} takes {} ms", candidate, medianMs);
+
+            if (medianMs > latencyBudgetMs) {
+                break;
+            }
+            selected = candidate;
+        }
+
+        log.info("BCrypt strength calibrated to {} for a latency budget of {} ms", selected, latencyBudgetMs);
+        return selected;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw rejected();
+        }
+        return await(future);
+    }
+
+    private ServiceBusyException rejected() {
+        rejectedCounter.increment();
+        log.warn("Password hashing pool saturated, rejecting request");
+        return new ServiceBusyException("password hashing");
+    }
+
+    private <T> Future<T> submitOrRunInline(Callable<T> task) {
+        try {
+            return hashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            try {
+                return CompletableFuture.completedFuture(task.call());
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException("Password hashing failed", ex);
+            }
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.vbote.api.infrastructure.adapter.out.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.TokenProvider;
+import com.vbote.api.infrastructure.observability.jfr.TokenEvent;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emite y valida JWT firmados con HS256.
+ * <p>
+ * Los tokens ya verificados se guardan en una cache acotada, indexada por el SHA-256 del token,
+ * hasta su {@code exp}; asi la firma de un mismo token solo se comprueba una vez. Los tokens
+ * invalidos no se cachean.
+ */
+@Component
+@Slf4j
+public class JwtTokenProvider implements TokenProvider {
+
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String ROLE_CLAIM = "role";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long expirationMs;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.expiration-ms}") long expirationMs,
+                            @Value("${jwt.cache.maximum-size:100000}") long cacheMaximumSize,
+                            MeterRegistry meterRegistry) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.expirationMs = expirationMs;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+    }
+
+    @Override
+    public String generateToken(User user) {
+        return new TokenEvent("generate").record(() -> sign(user));
+    }
+
+    private String sign(User user) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole() != null ? user.getRole().name() : null)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expirationMs))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Override
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    @Override
+    public String getUsernameFromToken(String token) {
+        return verify(token)
+                .map(VerifiedToken::getUsername)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid token"));
+    }
+
+    @Override
+    public void invalidateToken(String token) {
+        if (token != null) {
+            verifiedTokens.invalidate(digest(token));
+        }
+    }
+
+    @Override
+    public void invalidateUserTokens(Long userId) {
+        verifiedTokens.asMap().values().removeIf(verified -> userId.equals(verified.getUserId()));
+    }
+
+    private Optional<VerifiedToken> verify(String token) {
+        TokenEvent event = new TokenEvent("verify");
+        return event.record(() -> verify(token, event));
+    }
+
+    private Optional<VerifiedToken> verify(String token, TokenEvent event) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired()) {
+            event.setCacheHit(true);
+            event.setValid(true);
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get(USER_ID_CLAIM, Long.class),
+                    claims.getExpiration().getTime());
+            verifiedTokens.put(digest, verified);
+            event.setValid(true);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class VerifiedToken {
+
+        private final String username;
+        private final Long userId;
+        private final long expiresAtMillis;
+
+        private VerifiedToken(String username, Long userId, long expiresAtMillis) {
+            this.username = username;
+            this.userId = userId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        String getUsername() {
+            return username;
+        }
+
+        Long getUserId() {
+            return userId;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+    }
+
+    private static final class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMs = value.expiresAtMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.vbote.api.infrastructure.config;
+
+import com.vbote.api.domain.exception.DomainException;
+import com.vbote.api.domain.exception.InvalidCredentialsException;
+import com.vbote.api.domain.exception.ServiceBusyException;
+import com.vbote.api.domain.exception.SessionNotFoundException;
+import com.vbote.api.domain.exception.UnauthorizedException;
+import com.vbote.api.domain.exception.UserAlreadyExistsException;
+import com.vbote.api.domain.exception.UserBlockedException;
+import com.vbote.api.domain.exception.UserNotFoundException;
+import com.vbote.api.infrastructure.adapter.in.web.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestControllerAdvice
+@Slf4j
+public class GlobalExceptionHandler {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler({UserNotFoundException.class, SessionNotFoundException.class})
+    public ResponseEntity<ErrorResponse> handleNotFound(DomainException ex, HttpServletRequest request) {
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(UserAlreadyExistsException ex, HttpServletRequest request) {
+        return buildResponse(HttpStatus.CONFLICT, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler({InvalidCredentialsException.class, UnauthorizedException.class})
+    public ResponseEntity<ErrorResponse> handleUnauthorized(DomainException ex, HttpServletRequest request) {
+        return buildResponse(HttpStatus.UNAUTHORIZED, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(UserBlockedException.class)
+    public ResponseEntity<ErrorResponse> handleBlocked(UserBlockedException ex, HttpServletRequest request) {
+        return buildResponse(HttpStatus.FORBIDDEN, ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleBusy(ServiceBusyException ex, HttpServletRequest request) {
+        ErrorResponse body = buildBody(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request, null);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(body);
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex,
+                                                          HttpServletRequest request) {
+        List<ErrorResponse.FieldError> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> ErrorResponse.FieldError.builder()
+                        .field(error.getField())
+                        .message(error.getDefaultMessage())
+                        .build())
+                .collect(Collectors.toList());
+        return buildResponse(HttpStatus.BAD_REQUEST, "Validation failed", request, fieldErrors);
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponse> handleDomain(DomainException ex, HttpServletRequest request) {
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request, null);
+    }
+
+    private ResponseEntity<ErrorResponse> buildResponse(HttpStatus status, String message,
+                                                        HttpServletRequest request,
+                                                        List<ErrorResponse.FieldError> fieldErrors) {
+        return ResponseEntity.status(status).body(buildBody(status, message, request, fieldErrors));
+    }
+
+    private ErrorResponse buildBody(HttpStatus status, String message, HttpServletRequest request,
+                                    List<ErrorResponse.FieldError> fieldErrors) {
+        log.debug("Request {} failed with {}: {}", request.getRequestURI(), status.value(), message);
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .fieldErrors(fieldErrors)
+                .build();
+    }
+}
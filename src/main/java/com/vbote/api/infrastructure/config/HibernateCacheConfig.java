@@ -0,0 +1,89 @@
+package com.vbote.api.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.UserEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache de segundo nivel y de consultas de Hibernate sobre JCache con Caffeine, en memoria de
+ * cada instancia.
+ * <p>
+ * Regiones: {@link UserEntity#CACHE_REGION} (entidades {@code UserEntity}) y
+ * {@link UserEntity#QUERY_CACHE_REGION} (resultados de los listados filtrados). Hibernate invalida
+ * los resultados cacheados cuando se escribe en {@code users} a traves de JPA, asi que los
+ * {@code save} de {@code UserService} bastan; una escritura por SQL directo sobre esa tabla no se
+ * veria hasta que caducase la entrada. La region de timestamps la crea Hibernate sin limite ni
+ * caducidad, como exige.
+ * <p>
+ * Con {@code vbote.jpa.cache.enabled=false} se desactivan ambas caches de forma explicita:
+ * {@code hibernate-jcache} en el classpath bastaria para que Hibernate activase la de segundo nivel.
+ */
+@Configuration
+@Slf4j
+public class HibernateCacheConfig {
+
+    private static final AtomicInteger CACHE_MANAGERS = new AtomicInteger();
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(
+            @Value("${vbote.jpa.cache.enabled:true}") boolean enabled,
+            @Value("${vbote.jpa.cache.users.maximum-size:10000}") long usersMaximumSize,
+            @Value("${vbote.jpa.cache.users.ttl-ms:300000}") long usersTtlMs,
+            @Value("${vbote.jpa.cache.queries.maximum-size:1000}") long queriesMaximumSize,
+            @Value("${vbote.jpa.cache.queries.ttl-ms:60000}") long queriesTtlMs) {
+        if (!enabled) {
+            return properties -> {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            };
+        }
+
+        CacheManager cacheManager = newCacheManager();
+        cacheManager.createCache(UserEntity.CACHE_REGION, region(usersMaximumSize, usersTtlMs));
+        cacheManager.createCache(UserEntity.QUERY_CACHE_REGION, region(queriesMaximumSize, queriesTtlMs));
+        log.info("Hibernate second-level cache enabled: {} up to {} entries for {} ms, {} up to {} entries for {} ms",
+                UserEntity.CACHE_REGION, usersMaximumSize, usersTtlMs,
+                UserEntity.QUERY_CACHE_REGION, queriesMaximumSize, queriesTtlMs);
+
+        // Hibernate cierra el CacheManager al cerrar el EntityManagerFactory
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+        };
+    }
+
+    /*
+     * Un CacheManager propio por contexto: el del URI por defecto es compartido en la JVM
+     */
+    private static CacheManager newCacheManager() {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        URI uri = URI.create("vbote:hibernate-" + CACHE_MANAGERS.incrementAndGet());
+        return provider.getCacheManager(uri, HibernateCacheConfig.class.getClassLoader());
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, long ttlMs) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,80 @@
+package com.vbote.api.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vbote.api.infrastructure.adapter.in.web.reactive.ReactiveHttpServer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Adaptador reactivo opcional ({@code vbote.reactive.enabled}): servidor Reactor Netty en
+ * {@code vbote.reactive.port}, acceso R2DBC a la misma base de datos y scheduler acotado para
+ * BCrypt.
+ * <p>
+ * El pool R2DBC no se publica como bean {@code ConnectionFactory}: si existiera uno, Spring Boot
+ * dejaria de configurar el {@code DataSource} de JPA. Por lo mismo se excluye la
+ * autoconfiguracion de R2DBC en {@code VboteApiApplication}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "vbote.reactive.enabled", havingValue = "true")
+@Slf4j
+public class ReactiveServerConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${vbote.reactive.r2dbc.url}") String url,
+                                                 @Value("${vbote.reactive.r2dbc.username:}") String username,
+                                                 @Value("${vbote.reactive.r2dbc.password:}") String password,
+                                                 @Value("${vbote.reactive.r2dbc.pool.max-size:10}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive")
+                .initialSize(0)
+                .maxSize(maxSize)
+                .build());
+        log.info("Reactive R2DBC pool created for {} with up to {} connections", url, maxSize);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /*
+     * JSON con el ObjectMapper de Spring Boot, el mismo que usan los controladores
+     */
+    @Bean
+    public ReactiveHttpServer reactiveHttpServer(RouterFunction<ServerResponse> reactiveRouterFunction,
+                                                 ObjectMapper objectMapper,
+                                                 @Value("${vbote.reactive.port:8081}") int port,
+                                                 @Value("${vbote.reactive.event-loop-threads:0}") int eventLoopThreads) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveHttpServer(RouterFunctions.toHttpHandler(reactiveRouterFunction, strategies), port, eventLoopThreads);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.vbote.api.infrastructure.config;
+
+import com.vbote.api.infrastructure.adapter.out.persistence.routing.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replicas de lectura opcionales ({@code vbote.datasource.replicas.enabled}): las transacciones
+ * {@code readOnly} van a {@code vbote.datasource.replicas.urls} y el resto al primario de
+ * {@code spring.datasource}.
+ * <p>
+ * Al publicar este {@code DataSource} Spring Boot deja de crear el suyo, asi que aqui se crea
+ * tambien el pool del primario con las mismas propiedades.
+ */
+@Configuration
+@ConditionalOnProperty(name = "vbote.datasource.replicas.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 @Value("${vbote.datasource.replicas.urls}") List<String> urls,
+                                 @Value("${vbote.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                 @Value("${vbote.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                 @Value("${vbote.datasource.replicas.pool.max-size:10}") int maxPoolSize,
+                                 @Value("${vbote.datasource.replicas.connection-timeout-ms:1000}") long connectionTimeoutMs,
+                                 @Value("${vbote.datasource.replicas.retry-after-ms:5000}") long retryAfterMs) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        pools.add(primary);
+
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(maxPoolSize);
+            // Una replica caida debe fallar rapido para pasar a la siguiente o al primario
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            pools.add(replica);
+            replicas.add(replica);
+        }
+        log.info("Routing read-only transactions to {} replicas, primary at {}", replicas.size(),
+                properties.determineUrl());
+
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primary, replicas, retryAfterMs));
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(DataSource dataSource) throws SQLException {
+        return dataSource.unwrap(ReadReplicaRoutingDataSource.class);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,28 @@
+package com.vbote.api.infrastructure.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Con replicas ({@code vbote.datasource.replicas.enabled}) apaga {@code spring.jpa.open-in-view}: cada
+ * transaccion debe pedir su propia conexion para que el enrutado la mande al primario o a una replica;
+ * con open-in-view la peticion se quedaria con la primera. Sin replicas se mantiene el valor por defecto.
+ * <p>
+ * Va como ultima fuente de propiedades, asi que un {@code spring.jpa.open-in-view} explicito sigue mandando.
+ */
+public class ReadReplicaEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE_NAME = "readReplicaDefaults";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty("vbote.datasource.replicas.enabled", Boolean.class, false)) {
+            environment.getPropertySources().addLast(
+                    new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of("spring.jpa.open-in-view", false)));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.vbote.api.infrastructure.config;
+
+import com.vbote.api.domain.port.out.SessionRepository;
+import com.vbote.api.domain.port.out.UserRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.ActiveSessionIndex;
+import com.vbote.api.infrastructure.adapter.out.persistence.CachingUserRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.CoalescingSessionRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.CoalescingUserRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.GroupCommitSessionRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.GroupCommitSessionWriter;
+import com.vbote.api.infrastructure.adapter.out.persistence.SessionPersistenceAdapter;
+import com.vbote.api.infrastructure.adapter.out.persistence.UserPersistenceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Decoradores de los puertos de salida. Si hay alguno activo, los servicios reciben la cadena
+ * como {@code @Primary} en lugar del adaptador JPA:
+ * <ul>
+ *     <li>{@link UserRepository}: agrupacion de lecturas en vuelo ({@code vbote.coalescing.enabled}),
+ *     cache ({@code vbote.users.cache.enabled}) y adaptador JPA.</li>
+ *     <li>{@link SessionRepository}: agrupacion de lecturas en vuelo, inserts de sesiones por lotes
+ *     ({@code vbote.sessions.group-commit.enabled}) y adaptador JPA. Con el indice de sesiones activo
+ *     las lecturas por token ya son en memoria y no se agrupan.</li>
+ * </ul>
+ */
+@Configuration
+@Slf4j
+public class RepositoryDecoratorsConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${vbote.users.cache.enabled:true} or ${vbote.coalescing.enabled:true}")
+    public UserRepository userRepositoryChain(UserPersistenceAdapter userPersistenceAdapter,
+                                              @Value("${vbote.users.cache.enabled:true}") boolean cacheEnabled,
+                                              @Value("${vbote.users.cache.maximum-size:10000}") long maximumSize,
+                                              @Value("${vbote.users.cache.ttl-ms:60000}") long ttlMs,
+                                              @Value("${vbote.coalescing.enabled:true}") boolean coalescingEnabled,
+                                              @Value("${vbote.datasource.replicas.enabled:false}") boolean replicasEnabled,
+                                              @Value("${vbote.datasource.replicas.stickiness-ms:5000}") long stickinessMs,
+                                              MeterRegistry meterRegistry) {
+        UserRepository repository = userPersistenceAdapter;
+        if (cacheEnabled) {
+            // Con replicas, el retraso tolerado es la ventana de read-your-writes
+            Duration replicaLag = replicasEnabled ? Duration.ofMillis(stickinessMs) : Duration.ZERO;
+            repository = new CachingUserRepository(repository, maximumSize, Duration.ofMillis(ttlMs), replicaLag,
+                    meterRegistry);
+        }
+        if (coalescingEnabled) {
+            repository = new CoalescingUserRepository(repository, meterRegistry);
+        }
+        log.info("User repository decorators: cache={}, coalescing={}", cacheEnabled, coalescingEnabled);
+        return repository;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "vbote.sessions.group-commit.enabled", havingValue = "true")
+    public GroupCommitSessionWriter groupCommitSessionWriter(DataSource dataSource,
+                                                             ActiveSessionIndex activeSessionIndex,
+                                                             @Value("${vbote.sessions.index.enabled:true}") boolean indexEnabled,
+                                                             @Value("${vbote.sessions.group-commit.max-batch:100}") int maxBatchSize,
+                                                             @Value("${vbote.sessions.group-commit.max-delay-ms:5}") long maxDelayMs,
+                                                             @Value("${vbote.sessions.group-commit.queue-capacity:2000}") int queueCapacity,
+                                                             MeterRegistry meterRegistry) throws SQLException {
+        return new GroupCommitSessionWriter(dataSource, activeSessionIndex, indexEnabled, maxBatchSize, maxDelayMs,
+                queueCapacity, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnExpression("(${vbote.coalescing.enabled:true} and !${vbote.sessions.index.enabled:true})"
+            + " or ${vbote.sessions.group-commit.enabled:false}")
+    public SessionRepository sessionRepositoryChain(SessionPersistenceAdapter sessionPersistenceAdapter,
+                                                    ObjectProvider<GroupCommitSessionWriter> groupCommitWriter,
+                                                    @Value("${vbote.coalescing.enabled:true}") boolean coalescingEnabled,
+                                                    @Value("${vbote.sessions.index.enabled:true}") boolean indexEnabled,
+                                                    MeterRegistry meterRegistry) {
+        SessionRepository repository = sessionPersistenceAdapter;
+        GroupCommitSessionWriter writer = groupCommitWriter.getIfAvailable();
+        if (writer != null) {
+            repository = new GroupCommitSessionRepository(repository, writer);
+        }
+        boolean coalescing = coalescingEnabled && !indexEnabled;
+        if (coalescing) {
+            repository = new CoalescingSessionRepository(repository, meterRegistry);
+        }
+        log.info("Session repository decorators: group-commit={}, coalescing={}", writer != null, coalescing);
+        return repository;
+    }
+}
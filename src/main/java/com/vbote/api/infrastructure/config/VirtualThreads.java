@@ -0,0 +1,44 @@
+package com.vbote.api.infrastructure.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Acceso a los hilos virtuales (Java 21+) sin subir el nivel de compilacion: se resuelven por
+ * reflexion y, si la JVM no los tiene, se devuelve vacio para seguir con hilos de plataforma.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Executor que lanza un hilo virtual por tarea, con nombres {@code prefix + n}.
+     */
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            ThreadFactory factory = (ThreadFactory) ofVirtual.getMethod("factory").invoke(builder);
+            return Optional.of((ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory));
+        } catch (ReflectiveOperationException e) {
+            // Java < 21, o 19/20 sin --enable-preview (InvocationTargetException)
+            return Optional.empty();
+        }
+    }
+
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return false;
+        }
+    }
+}
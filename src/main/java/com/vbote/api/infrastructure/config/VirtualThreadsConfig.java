@@ -0,0 +1,64 @@
+package com.vbote.api.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Modo opcional en el que Tomcat atiende cada peticion en un hilo virtual, de modo que servlets,
+ * controladores y las llamadas a {@code UserUseCase}/{@code SessionUseCase} que hacen ya no
+ * ocupan un hilo de plataforma mientras esperan a JDBC o al pool de hashing.
+ * <p>
+ * Se activa con {@code vbote.threads.virtual.enabled=true}; si la JVM no soporta hilos virtuales
+ * se registra un aviso y se mantiene el pool de Tomcat. Con hilos virtuales {@code server.tomcat.threads.max}
+ * deja de limitar la concurrencia: el limite pasa a ser el pool de conexiones y el de hashing.
+ */
+@Configuration
+@ConditionalOnProperty(name = "vbote.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadsConfig {
+
+    @Bean
+    public VirtualThreadTomcatCustomizer virtualThreadTomcatCustomizer() {
+        Optional<ExecutorService> executor = VirtualThreads.newThreadPerTaskExecutor("http-vt-");
+        if (executor.isPresent()) {
+            log.info("Serving requests on virtual threads");
+        } else {
+            log.warn("Virtual threads requested but not supported by Java {}; keeping the Tomcat thread pool",
+                    Runtime.version());
+        }
+        return new VirtualThreadTomcatCustomizer(executor.orElse(null));
+    }
+
+    static class VirtualThreadTomcatCustomizer
+            implements TomcatProtocolHandlerCustomizer<ProtocolHandler>, DisposableBean {
+
+        private final ExecutorService executor;
+
+        VirtualThreadTomcatCustomizer(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void customize(ProtocolHandler protocolHandler) {
+            if (executor != null) {
+                protocolHandler.setExecutor(executor);
+            }
+        }
+
+        // Tomcat no cierra un executor que no ha creado
+        @Override
+        public void destroy() {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.vbote.api.infrastructure.observability;
+
+import com.vbote.api.domain.port.out.SessionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gauge {@code sessions.active}: sesiones activas. Con el indice en memoria activado la lectura
+ * no toca la base de datos.
+ */
+@Component
+public class SessionMetrics {
+
+    public SessionMetrics(SessionRepository sessionRepository, MeterRegistry meterRegistry) {
+        Gauge.builder("sessions.active", sessionRepository, SessionRepository::countActive)
+                .description("Active sessions")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.vbote.api.infrastructure.observability;
+
+import com.vbote.api.domain.port.in.SessionUseCase;
+import com.vbote.api.domain.port.in.UserUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Mide cada llamada a {@link UserUseCase} y {@link SessionUseCase}.
+ * <p>
+ * Publica {@code usecase.duration} (timer con histograma de percentiles) y {@code usecase.calls}
+ * (contador), ambos con las etiquetas {@code usecase}, {@code method}, {@code outcome}
+ * ({@code success} o {@code failure}) y {@code exception} (nombre simple de la excepcion o
+ * {@code none}). Se ejecuta por fuera de la transaccion, asi que el tiempo incluye el commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UseCaseMetricsAspect {
+
+    static final String DURATION_METRIC = "usecase.duration";
+    static final String CALLS_METRIC = "usecase.calls";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.vbote.api.domain.port.in.UserUseCase+.*(..)) "
+            + "|| execution(public * com.vbote.api.domain.port.in.SessionUseCase+.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            record(useCaseOf(joinPoint.getTarget()), joinPoint.getSignature().getName(), exception,
+                    System.nanoTime() - start);
+        }
+    }
+
+    private void record(String useCase, String method, String exception, long elapsedNanos) {
+        Tags tags = Tags.of(
+                "usecase", useCase,
+                "method", method,
+                "outcome", NO_EXCEPTION.equals(exception) ? "success" : "failure",
+                "exception", exception);
+
+        Timer.builder(DURATION_METRIC)
+                .description("Use case latency")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsedNanos));
+        Counter.builder(CALLS_METRIC)
+                .description("Use case calls by outcome")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String useCaseOf(Object target) {
+        if (target instanceof SessionUseCase) {
+            return SessionUseCase.class.getSimpleName();
+        }
+        if (target instanceof UserUseCase) {
+            return UserUseCase.class.getSimpleName();
+        }
+        return target.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,63 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import com.vbote.api.domain.port.out.SessionRepository;
+import com.vbote.api.domain.port.out.UserRepository;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emite los eventos JFR de los casos de uso de sesion y de los adaptadores de repositorio. Los
+ * adaptadores de seguridad emiten los suyos directamente.
+ * <p>
+ * Solo se miden los adaptadores JPA, no los decoradores de {@code RepositoryDecoratorsConfig}: un
+ * evento por llamada que llega a la base de datos, sin anidar uno por capa. Los aciertos de cache y las
+ * lecturas agrupadas no emiten evento, ni los inserts del escritor de group commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class JfrEventsAspect {
+
+    @Around("execution(public * com.vbote.api.domain.port.in.SessionUseCase+.login(..))")
+    public Object login(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new LoginEvent(), joinPoint);
+    }
+
+    @Around("execution(public * com.vbote.api.domain.port.in.SessionUseCase+.validateSession(..))")
+    public Object validateSession(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new SessionValidationEvent(), joinPoint);
+    }
+
+    @Around("execution(public * com.vbote.api.infrastructure.adapter.out.persistence.SessionPersistenceAdapter.*(..)) "
+            + "|| execution(public * com.vbote.api.infrastructure.adapter.out.persistence.UserPersistenceAdapter.*(..))")
+    public Object repositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new RepositoryCallEvent(repositoryOf(joinPoint.getTarget()),
+                joinPoint.getSignature().getName()), joinPoint);
+    }
+
+    private static Object record(OutcomeEvent event, ProceedingJoinPoint joinPoint) throws Throwable {
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            event.complete(null);
+            return result;
+        } catch (Throwable e) {
+            event.complete(e);
+            throw e;
+        }
+    }
+
+    private static String repositoryOf(Object target) {
+        if (target instanceof SessionRepository) {
+            return SessionRepository.class.getSimpleName();
+        }
+        if (target instanceof UserRepository) {
+            return UserRepository.class.getSimpleName();
+        }
+        return target.getClass().getSimpleName();
+    }
+}
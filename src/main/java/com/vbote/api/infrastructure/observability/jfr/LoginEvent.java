@@ -0,0 +1,13 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.vbote.Login")
+@Label("Login")
+@Category({"vBote", "Sessions"})
+@Description("SessionUseCase.login, including password check, token issue and session save")
+public final class LoginEvent extends OutcomeEvent {
+}
@@ -0,0 +1,52 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * Base de los eventos JFR de vBote: duracion de la operacion mas su resultado.
+ * <p>
+ * Sin una grabacion activa {@link #shouldCommit()} es falso y el evento no cuesta mas que
+ * crear el objeto.
+ */
+@Category("vBote")
+@StackTrace(false)
+public abstract class OutcomeEvent extends Event {
+
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Exception")
+    String exception;
+
+    /**
+     * Cierra el evento y lo guarda si la grabacion lo pide; {@code failure} nulo indica exito.
+     */
+    public final void complete(Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            outcome = failure == null ? SUCCESS : FAILURE;
+            exception = failure == null ? null : failure.getClass().getSimpleName();
+            commit();
+        }
+    }
+
+    public final <T> T record(Supplier<T> action) {
+        begin();
+        try {
+            T result = action.get();
+            complete(null);
+            return result;
+        } catch (RuntimeException | Error e) {
+            complete(e);
+            throw e;
+        }
+    }
+}
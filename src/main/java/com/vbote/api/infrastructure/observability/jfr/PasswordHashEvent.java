@@ -0,0 +1,32 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Operacion de BCrypt vista desde el hilo que la pide: incluye la espera en la cola del pool de
+ * hashing.
+ */
+@Name("com.vbote.PasswordHash")
+@Label("Password Hash")
+@Category({"vBote", "Security"})
+@Description("BCrypt encode or match, including the wait for the hashing pool")
+public final class PasswordHashEvent extends OutcomeEvent {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Strength")
+    int strength;
+
+    @Label("Passwords")
+    int passwords;
+
+    public PasswordHashEvent(String operation, int strength, int passwords) {
+        this.operation = operation;
+        this.strength = strength;
+        this.passwords = passwords;
+    }
+}
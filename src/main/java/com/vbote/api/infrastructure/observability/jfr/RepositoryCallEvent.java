@@ -0,0 +1,26 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.vbote.RepositoryCall")
+@Label("Repository Call")
+@Category({"vBote", "Persistence"})
+@Description("Call to the JPA adapter of SessionRepository or UserRepository")
+@Threshold("1 ms")
+public final class RepositoryCallEvent extends OutcomeEvent {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    public RepositoryCallEvent(String repository, String method) {
+        this.repository = repository;
+        this.method = method;
+    }
+}
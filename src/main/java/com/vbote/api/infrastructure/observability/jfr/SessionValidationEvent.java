@@ -0,0 +1,15 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.vbote.SessionValidation")
+@Label("Session Validation")
+@Category({"vBote", "Sessions"})
+@Description("SessionUseCase.validateSession, including token check and session lookup")
+@Threshold("1 ms")
+public final class SessionValidationEvent extends OutcomeEvent {
+}
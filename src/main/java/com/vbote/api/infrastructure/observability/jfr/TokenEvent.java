@@ -0,0 +1,36 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("com.vbote.Token")
+@Label("Token")
+@Category({"vBote", "Security"})
+@Description("JWT issue or verification; verification may be served by the verified-token cache")
+@Threshold("1 ms")
+public final class TokenEvent extends OutcomeEvent {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    @Label("Valid")
+    boolean valid;
+
+    public TokenEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+}
@@ -0,0 +1,146 @@
+package com.vbote.api.application.service;
+
+import com.vbote.api.domain.exception.BatchTooLargeException;
+import com.vbote.api.domain.exception.InvalidCredentialsException;
+import com.vbote.api.domain.exception.ServiceBusyException;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.model.TokenValidation;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.PasswordEncoder;
+import com.vbote.api.domain.port.out.SessionRepository;
+import com.vbote.api.domain.port.out.TokenProvider;
+import com.vbote.api.domain.port.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionServlceTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TokenProvider tokenProvider;
+
+    @InjectMocks
+    private SessionServlce sessionService;
+
+    private User createUser(String password) {
+        return User.builder()
+                .id(1L)
+                .username("alice")
+                .password(password)
+                .role(User.Role.USER)
+                .blocked(false)
+                .build();
+    }
+
+    private void stubSuccessfulLogin(User user) {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("secret", user.getPassword())).thenReturn(true);
+        when(tokenProvider.generateToken(user)).thenReturn("jwt");
+        when(sessionRepository.save(any(Session.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void loginRehashesPasswordWithOutdatedCost() {
+        User user = createUser("old_hash");
+        stubSuccessfulLogin(user);
+        when(passwordEncoder.needsRehash("old_hash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenReturn("new_hash");
+
+        Session session = sessionService.login("alice", "secret", "127.0.0.1");
+
+        assertEquals("jwt", session.getToken());
+        assertEquals("new_hash", user.getPassword());
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    void loginKeepsPasswordWithCurrentCost() {
+        User user = createUser("current_hash");
+        stubSuccessfulLogin(user);
+        when(passwordEncoder.needsRehash("current_hash")).thenReturn(false);
+
+        sessionService.login("alice", "secret", "127.0.0.1");
+
+        verify(passwordEncoder, never()).encode(any());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void loginSucceedsWhenRehashIsRejected() {
+        User user = createUser("old_hash");
+        stubSuccessfulLogin(user);
+        when(passwordEncoder.needsRehash("old_hash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenThrow(new ServiceBusyException("password hashing"));
+
+        Session session = sessionService.login("alice", "secret", "127.0.0.1");
+
+        assertNotNull(session);
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void loginWithWrongPasswordDoesNotRehash() {
+        User user = createUser("old_hash");
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("wrong", "old_hash")).thenReturn(false);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> sessionService.login("alice", "wrong", "127.0.0.1"));
+        verify(passwordEncoder, never()).needsRehash(any());
+    }
+
+    @Test
+    void validateSessionsResolvesTheBatchWithOneLookupInRequestOrder() {
+        when(tokenProvider.validateToken(any())).thenAnswer(invocation -> !"expired".equals(invocation.getArgument(0)));
+        when(sessionRepository.findValidationsByTokens(Set.of("valid", "blocked", "closed", "unknown"))).thenReturn(Map.of(
+                "valid", new SessionValidation(1L, true, 10L, "alice", User.Role.ADMIN, false),
+                "blocked", new SessionValidation(2L, true, 11L, "bob", User.Role.USER, true),
+                "closed", new SessionValidation(3L, false, 12L, "carol", User.Role.USER, false)));
+
+        List<TokenValidation> results = sessionService.validateSessions(
+                List.of("valid", "blocked", "closed", "unknown", "expired", "valid"));
+
+        assertEquals(List.of(TokenValidation.Status.VALID, TokenValidation.Status.BLOCKED,
+                        TokenValidation.Status.NOT_FOUND, TokenValidation.Status.NOT_FOUND,
+                        TokenValidation.Status.NOT_FOUND, TokenValidation.Status.VALID),
+                results.stream().map(TokenValidation::getStatus).collect(Collectors.toList()));
+        assertEquals(10L, results.get(0).getUserId());
+        assertEquals(User.Role.ADMIN, results.get(0).getRole());
+        assertEquals(11L, results.get(1).getUserId());
+        assertNull(results.get(2).getUserId());
+        verify(sessionRepository, times(1)).findValidationsByTokens(any());
+        verify(tokenProvider, times(1)).validateToken("valid");
+    }
+
+    @Test
+    void validateSessionsRejectsOversizedBatches() {
+        List<String> tokens = Collections.nCopies(TokenValidation.MAX_BATCH_SIZE + 1, "jwt");
+
+        assertThrows(BatchTooLargeException.class, () -> sessionService.validateSessions(tokens));
+        verifyNoInteractions(sessionRepository);
+    }
+}
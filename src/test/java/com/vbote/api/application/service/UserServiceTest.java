@@ -0,0 +1,95 @@
+package com.vbote.api.application.service;
+
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.model.UserImportResult;
+import com.vbote.api.domain.port.out.PasswordEncoder;
+import com.vbote.api.domain.port.out.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserImportWriter userImportWriter;
+
+    @InjectMocks
+    private UserService userService;
+
+    private User createUser(String username) {
+        return User.builder()
+                .username(username)
+                .password("raw_" + username)
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importUsersSkipsExistingAndRepeatedUsernames() {
+        AtomicLong ids = new AtomicLong();
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of("bob"));
+        when(passwordEncoder.encodeAll(anyList())).thenAnswer(invocation -> ((List<String>) invocation.getArgument(0))
+                .stream().map(raw -> "encoded_" + raw).collect(Collectors.toList()));
+        when(userImportWriter.saveNewUsers(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(ids.incrementAndGet()));
+            return users;
+        });
+
+        List<UserImportResult> results = userService.importUsers(List.of(
+                createUser("alice"), createUser("bob"), createUser("carol"), createUser("alice")));
+
+        assertEquals(List.of(UserImportResult.Status.CREATED, UserImportResult.Status.DUPLICATE,
+                        UserImportResult.Status.CREATED, UserImportResult.Status.DUPLICATE),
+                results.stream().map(UserImportResult::getStatus).collect(Collectors.toList()));
+        assertEquals(1L, results.get(0).getUserId());
+        assertEquals(2L, results.get(2).getUserId());
+
+        verify(passwordEncoder).encodeAll(List.of("raw_alice", "raw_carol"));
+        verify(userRepository, times(1)).findExistingUsernames(anyCollection());
+        verify(userRepository, never()).existsByUsername(any());
+        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importUsersReportsUsernamesCreatedWhileHashingAsDuplicates() {
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(Set.of());
+        when(passwordEncoder.encodeAll(anyList())).thenAnswer(invocation -> ((List<String>) invocation.getArgument(0))
+                .stream().map(raw -> "encoded_" + raw).collect(Collectors.toList()));
+        // Otra importacion crea "bob" mientras se hace el hash del lote
+        when(userImportWriter.saveNewUsers(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            User alice = users.get(0);
+            alice.setId(1L);
+            return List.of(alice);
+        });
+
+        List<UserImportResult> results = userService.importUsers(List.of(createUser("alice"), createUser("bob")));
+
+        assertEquals(List.of(UserImportResult.Status.CREATED, UserImportResult.Status.DUPLICATE),
+                results.stream().map(UserImportResult::getStatus).collect(Collectors.toList()));
+        assertEquals(1L, results.get(0).getUserId());
+    }
+}
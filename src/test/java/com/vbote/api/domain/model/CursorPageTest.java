@@ -0,0 +1,54 @@
+package com.vbote.api.domain.model;
+
+import com.vbote.api.domain.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    @Test
+    void cursorRoundTrips() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 12, 5, 13, 48, 44, 123456789), 42L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(InvalidCursorException.class, () -> PageCursor.decode("not a cursor"));
+        assertThrows(InvalidCursorException.class, () -> PageCursor.decode("bm8tc2VwYXJhdG9y"));
+    }
+
+    @Test
+    void extraRowProducesNextCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Long> rows = Arrays.asList(1L, 2L, 3L);
+
+        CursorPage<Long> page = CursorPage.of(rows, 2, id -> new PageCursor(createdAt, id));
+
+        assertEquals(Arrays.asList(1L, 2L), page.getItems());
+        assertTrue(page.hasNext());
+        assertEquals(new PageCursor(createdAt, 2L), PageCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPage<Long> page = CursorPage.of(Arrays.asList(1L, 2L), 2,
+                id -> new PageCursor(LocalDateTime.now(), id));
+
+        assertEquals(2, page.getItems().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void limitIsClamped() {
+        assertEquals(1, CursorPage.clampLimit(0));
+        assertEquals(CursorPage.MAX_LIMIT, CursorPage.clampLimit(10_000));
+        assertEquals(20, CursorPage.clampLimit(20));
+    }
+}
@@ -0,0 +1,90 @@
+package com.vbote.api.infrastructure.adapter.in.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.UserUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sessioncontrollertest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "vbote.sessions.expiry.enabled=false",
+        "vbote.sessions.archive.enabled=false",
+        "vbote.password.bcrypt.strength=4",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class SessionControllerTest {
+
+    private static final String PASSWORD = "secret123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserUseCase userUseCase;
+
+    @Test
+    void logoutIsIdempotentForAClosedSession() throws Exception {
+        String token = login(createUser("logout-twice"));
+
+        logout(token).andExpect(status().isOk());
+        logout(token).andExpect(status().isOk());
+    }
+
+    @Test
+    void logoutOfAnUnknownTokenIsNotFound() throws Exception {
+        logout("unknown-token").andExpect(status().isNotFound());
+    }
+
+    @Test
+    void batchValidationAnswersEachTokenInRequestOrder() throws Exception {
+        String valid = login(createUser("batch-valid"));
+        String closed = login(createUser("batch-closed"));
+        logout(closed).andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/sessions/validate:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("tokens", List.of(closed, valid, "unknown-token", valid)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results", hasSize(4)))
+                .andExpect(jsonPath("$.results[0].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[1].status").value("VALID"))
+                .andExpect(jsonPath("$.results[1].role").value("USER"))
+                .andExpect(jsonPath("$.results[2].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[3].status").value("VALID"));
+    }
+
+    private ResultActions logout(String token) throws Exception {
+        return mockMvc.perform(post("/api/sessions/logout").header("Authorization", "Bearer " + token));
+    }
+
+    private String createUser(String username) {
+        return userUseCase.createUser(User.builder().username(username).password(PASSWORD).build()).getUsername();
+    }
+
+    private String login(String username) throws Exception {
+        String body = mockMvc.perform(post("/api/sessions/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+}
@@ -0,0 +1,15 @@
+package com.vbote.api.infrastructure.adapter.in.web.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Los mismos casos contra la tabla: validate:batch resuelve los tokens con un IN sobre token_hash
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sessioncontrollernoindextest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "vbote.sessions.index.enabled=false",
+        "vbote.sessions.expiry.enabled=false",
+        "vbote.sessions.archive.enabled=false",
+        "vbote.password.bcrypt.strength=4",
+        "spring.jpa.show-sql=false"
+})
+class SessionControllerWithoutIndexTest extends SessionControllerTest {
+}
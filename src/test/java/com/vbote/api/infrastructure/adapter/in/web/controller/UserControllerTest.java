@@ -0,0 +1,63 @@
+package com.vbote.api.infrastructure.adapter.in.web.controller;
+
+import com.vbote.api.domain.port.out.PasswordEncoder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:usercontrollertest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "vbote.sessions.expiry.enabled=false",
+        "vbote.sessions.archive.enabled=false",
+        "vbote.password.bcrypt.strength=4",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void importHashesPasswordsWithoutHoldingAPooledConnection() throws Exception {
+        List<Integer> activeWhileHashing = new ArrayList<>();
+        doAnswer(invocation -> {
+            activeWhileHashing.add(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encodeAll(anyList());
+
+        mockMvc.perform(post("/api/users/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"username\":\"import-1\",\"password\":\"secret123\",\"email\":\"i1@x.com\",\"role\":\"USER\"}\n"
+                                + "{\"username\":\"import-2\",\"password\":\"secret123\",\"email\":\"i2@x.com\",\"role\":\"USER\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("CREATED"));
+
+        assertEquals(List.of(0), activeWhileHashing);
+    }
+}
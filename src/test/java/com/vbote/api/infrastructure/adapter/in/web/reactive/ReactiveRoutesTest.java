@@ -0,0 +1,108 @@
+package com.vbote.api.infrastructure.adapter.in.web.reactive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.UserUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rutas reactivas sobre R2DBC contra la misma base H2 que JPA, con el indice de sesiones
+ * desactivado para que las lecturas por token vayan a SQL.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactivetest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "vbote.reactive.enabled=true",
+        "vbote.reactive.port=0",
+        "vbote.reactive.r2dbc.url=r2dbc:h2:mem:///reactivetest?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "vbote.sessions.index.enabled=false",
+        "vbote.sessions.expiry.enabled=false",
+        "vbote.sessions.archive.enabled=false",
+        "vbote.password.bcrypt.strength=4",
+        "spring.jpa.show-sql=false"
+})
+class ReactiveRoutesTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ReactiveHttpServer server;
+
+    @Autowired
+    private UserUseCase userUseCase;
+
+    @Test
+    void loginValidateAndLogoutThroughR2dbc() {
+        User user = userUseCase.createUser(User.builder().username("reactive-user").password("secret").build());
+        WebClient client = WebClient.create("http://localhost:" + server.getPort());
+
+        JsonNode login = client.post().uri("/reactive/sessions/login")
+                .bodyValue(Map.of("username", "reactive-user", "password", "secret"))
+                .retrieve().bodyToMono(JsonNode.class).block(TIMEOUT);
+        assertNotNull(login);
+        assertEquals(user.getId(), login.get("userId").asLong());
+        String bearer = "Bearer " + login.get("token").asText();
+
+        JsonNode session = client.get().uri("/reactive/sessions/validate")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .retrieve().bodyToMono(JsonNode.class).block(TIMEOUT);
+        assertNotNull(session);
+        assertTrue(session.get("active").asBoolean());
+        assertEquals("reactive-user", session.get("username").asText());
+
+        assertEquals(200, exchange(client.post().uri("/reactive/sessions/logout").header(HttpHeaders.AUTHORIZATION, bearer)));
+        assertEquals(404, exchange(client.get().uri("/reactive/sessions/validate").header(HttpHeaders.AUTHORIZATION, bearer)));
+    }
+
+    @Test
+    void wrongPasswordAndUnknownUserMapToDomainStatuses() {
+        userUseCase.createUser(User.builder().username("reactive-other").password("secret").build());
+        WebClient client = WebClient.create("http://localhost:" + server.getPort());
+
+        assertEquals(401, exchange(client.post().uri("/reactive/sessions/login")
+                .bodyValue(Map.of("username", "reactive-other", "password", "wrong"))));
+        assertEquals(404, exchange(client.get().uri("/reactive/users/{id}", 999_999)));
+        assertEquals(400, exchange(client.get().uri("/reactive/users?cursor=not-a-cursor")));
+    }
+
+    @Test
+    void usersPageFollowsTheKeysetCursor() {
+        for (int i = 0; i < 3; i++) {
+            userUseCase.createUser(User.builder().username("reactive-page-" + i).password("secret").build());
+        }
+        WebClient client = WebClient.create("http://localhost:" + server.getPort());
+
+        JsonNode first = client.get().uri("/reactive/users?username=reactive-page-&limit=2")
+                .retrieve().bodyToMono(JsonNode.class).block(TIMEOUT);
+        assertNotNull(first);
+        assertEquals(2, first.get("items").size());
+        assertFalse(first.get("nextCursor").isNull());
+
+        JsonNode second = client.get().uri("/reactive/users?username=reactive-page-&limit=2&cursor={cursor}",
+                        first.get("nextCursor").asText())
+                .retrieve().bodyToMono(JsonNode.class).block(TIMEOUT);
+        assertNotNull(second);
+        assertEquals(1, second.get("items").size());
+        assertEquals("reactive-page-2", second.get("items").get(0).get("username").asText());
+        assertTrue(second.get("nextCursor").isNull());
+    }
+
+    private static int exchange(WebClient.RequestHeadersSpec<?> request) {
+        ResponseEntity<Void> response = request.retrieve()
+                .onStatus(status -> true, clientResponse -> Mono.empty())
+                .toBodilessEntity()
+                .block(TIMEOUT);
+        assertNotNull(response);
+        return response.getStatusCodeValue();
+    }
+}
@@ -0,0 +1,215 @@
+package com.vbote.api.infrastructure.adapter.in.web.servlet;
+
+import com.vbote.api.domain.exception.ServiceBusyException;
+import com.vbote.api.infrastructure.config.VirtualThreads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncServletExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AsyncServletExecutor executor = new AsyncServletExecutor(1, 1, 30000, false, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private void useVirtualThreads() {
+        executor.shutdown();
+        executor = new AsyncServletExecutor(1, 1, 30000, true, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void callRunsOffTheContainerThreadAndCompletesTheResponse() throws Exception {
+        Exchange exchange = new Exchange();
+        String caller = Thread.currentThread().getName();
+
+        executor.dispatch(exchange.request, exchange.response, "test", () -> {
+            String worker = Thread.currentThread().getName();
+            return out -> {
+                out.setStatus(201);
+                out.getWriter().write(worker);
+            };
+        });
+
+        exchange.awaitCompletion();
+        assertEquals(201, exchange.response.getStatus());
+        assertTrue(exchange.response.getContentAsString().startsWith("servlet-async-"));
+        assertNotEquals(caller, exchange.response.getContentAsString());
+    }
+
+    @Test
+    void busyUseCaseMapsToServiceUnavailable() throws Exception {
+        Exchange exchange = new Exchange();
+
+        executor.dispatch(exchange.request, exchange.response, "test", () -> {
+            throw new ServiceBusyException("password hashing");
+        });
+
+        exchange.awaitCompletion();
+        assertEquals(503, exchange.response.getStatus());
+        assertEquals("1", exchange.response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void timeoutAnswersGatewayTimeoutAndTheLateCallStillTakesEffect() throws Exception {
+        Exchange exchange = new Exchange();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean committed = new AtomicBoolean();
+
+        executor.dispatch(exchange.request, exchange.response, "test", () -> {
+            started.countDown();
+            // Como un commit JDBC: no atiende a la interrupcion del timeout
+            awaitUninterruptibly(release);
+            committed.set(true);
+            finished.countDown();
+            return out -> out.setStatus(200);
+        });
+        // Si vence en cola la llamada se cancela sin ejecutarse
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        exchange.fireTimeout();
+
+        exchange.awaitCompletion();
+        assertEquals(504, exchange.response.getStatus());
+        assertNull(exchange.response.getHeader("Retry-After"));
+        assertTrue(exchange.response.getContentAsString().contains("timed out"));
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        // El efecto de la llamada tardia se mantiene; solo se descarta su respuesta
+        assertTrue(committed.get());
+        assertEquals(504, exchange.response.getStatus());
+        assertEquals(1.0, meterRegistry.counter("servlet.async.timeouts").count());
+    }
+
+    @Test
+    void saturatedPoolRejectsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Exchange running = new Exchange();
+        Exchange queued = new Exchange();
+        Exchange rejected = new Exchange();
+        AsyncServletExecutor.AsyncCall blocked = () -> {
+            release.await();
+            return out -> out.setStatus(200);
+        };
+
+        executor.dispatch(running.request, running.response, "test", blocked);
+        executor.dispatch(queued.request, queued.response, "test", blocked);
+        executor.dispatch(rejected.request, rejected.response, "test", blocked);
+
+        assertFalse(rejected.request.isAsyncStarted());
+        assertEquals(503, rejected.response.getStatus());
+        assertEquals(1.0, meterRegistry.counter("servlet.async.rejected").count());
+
+        release.countDown();
+        running.awaitCompletion();
+        queued.awaitCompletion();
+        assertEquals(200, queued.response.getStatus());
+    }
+
+    @Test
+    void virtualThreadsRunEachCallOnItsOwnThreadWhenSupported() throws Exception {
+        useVirtualThreads();
+        Exchange exchange = new Exchange();
+
+        executor.dispatch(exchange.request, exchange.response, "test", () -> {
+            String worker = Thread.currentThread().getName();
+            return out -> out.getWriter().write(worker);
+        });
+
+        exchange.awaitCompletion();
+        // Sin hilos virtuales en la JVM se usa el pool de plataforma
+        String expectedPrefix = VirtualThreads.isSupported() ? "servlet-vt-" : "servlet-async-";
+        assertTrue(exchange.response.getContentAsString().startsWith(expectedPrefix));
+    }
+
+    @Test
+    void virtualThreadsAreBoundedAndReleaseTheirPermits() throws Exception {
+        useVirtualThreads();
+        CountDownLatch release = new CountDownLatch(1);
+        Exchange running = new Exchange();
+        Exchange queued = new Exchange();
+        Exchange rejected = new Exchange();
+        AsyncServletExecutor.AsyncCall blocked = () -> {
+            release.await();
+            return out -> out.setStatus(200);
+        };
+
+        executor.dispatch(running.request, running.response, "test", blocked);
+        executor.dispatch(queued.request, queued.response, "test", blocked);
+        executor.dispatch(rejected.request, rejected.response, "test", blocked);
+
+        assertFalse(rejected.request.isAsyncStarted());
+        assertEquals(503, rejected.response.getStatus());
+        assertEquals("1", rejected.response.getHeader("Retry-After"));
+
+        release.countDown();
+        running.awaitCompletion();
+        queued.awaitCompletion();
+        Exchange next = new Exchange();
+        executor.dispatch(next.request, next.response, "test", () -> out -> out.setStatus(201));
+        next.awaitCompletion();
+        assertEquals(201, next.response.getStatus());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Exchange {
+
+        private final MockHttpServletRequest request = new MockHttpServletRequest();
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        private Exchange() {
+            request.setAsyncSupported(true);
+        }
+
+        private MockAsyncContext context() {
+            return (MockAsyncContext) request.getAsyncContext();
+        }
+
+        /*
+         * MockAsyncContext.complete() saca la peticion del modo asincrono
+         */
+        private void awaitCompletion() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (request.isAsyncStarted()) {
+                assertTrue(System.nanoTime() < deadline, "Async request did not complete");
+                Thread.sleep(5);
+            }
+        }
+
+        private void fireTimeout() throws Exception {
+            for (AsyncListener listener : context().getListeners()) {
+                listener.onTimeout(new AsyncEvent(context(), request, response));
+            }
+        }
+    }
+}
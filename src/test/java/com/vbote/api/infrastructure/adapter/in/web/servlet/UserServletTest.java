@@ -4,16 +4,30 @@ import com.vbote.api.domain.model.User;
 import com.vbote.api.domain.port.in.UserUseCase;
 import com.vbote.api.infrastructure.adapter.in.web.dto.UserDto;
 import com.vbote.api.infrastructure.adapter.in.web.mapper.UserWebMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class UserServletTest {
 
@@ -60,6 +74,65 @@ class UserServletTest {
     void doGet() {
     }
 
+    @Test
+    void streamedListingIsNotFlushedPerRow() throws Exception {
+        UserServlet servlet = new UserServlet();
+        UserUseCase useCase = mock(UserUseCase.class);
+        UserWebMapper webMapper = mock(UserWebMapper.class);
+        ReflectionTestUtils.setField(servlet, "userUseCase", useCase);
+        ReflectionTestUtils.setField(servlet, "mapper", webMapper);
+        servlet.init();
+        when(webMapper.toResponse(any())).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            return createUserResponse(user.getId(), user.getUsername(), "USER", false);
+        });
+        doAnswer(invocation -> {
+            Consumer<User> action = invocation.getArgument(3);
+            for (long id = 1; id <= 100; id++) {
+                action.accept(createUser(id, "user-" + id, User.Role.USER, false));
+            }
+            return null;
+        }).when(useCase).forEachUser(any(), any(), any(), any());
+        MockHttpServletRequest streamRequest = new MockHttpServletRequest("GET", "/servlet/users");
+        streamRequest.setParameter("stream", "true");
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+        MockHttpServletResponse streamResponse = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return out;
+            }
+        };
+
+        servlet.doGet(streamRequest, streamResponse);
+
+        assertEquals(200, streamResponse.getStatus());
+        JsonNode rows = new ObjectMapper().readTree(body.toByteArray());
+        assertEquals(100, rows.size());
+        assertEquals("user-100", rows.get(99).get("username").asText());
+        assertTrue(flushes.get() <= 2, "flushed " + flushes.get() + " times for 100 rows");
+    }
+
     @Test
     void doPost() {
     }
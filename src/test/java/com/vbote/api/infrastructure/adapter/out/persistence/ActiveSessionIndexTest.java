@@ -0,0 +1,91 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveSessionIndexTest {
+
+    private final ActiveSessionIndex index = new ActiveSessionIndex();
+
+    private User createUser(Long id, Boolean blocked) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .password("encoded_password")
+                .role(User.Role.USER)
+                .blocked(blocked)
+                .build();
+    }
+
+    private Session createSession(Long id, User user, String token, Boolean active) {
+        return Session.builder()
+                .id(id)
+                .user(user)
+                .token(token)
+                .ipAddress("127.0.0.1")
+                .createdAt(LocalDateTime.now())
+                .active(active)
+                .build();
+    }
+
+    @Test
+    void findByTokenReturnsIndexedActiveSession() {
+        index.put(createSession(1L, createUser(10L, false), "token-1", true));
+
+        Session session = index.findByToken("token-1").orElseThrow();
+
+        assertEquals(1L, session.getId());
+        assertEquals(10L, session.getUser().getId());
+        assertTrue(index.findByToken("unknown").isEmpty());
+    }
+
+    @Test
+    void putOfInactiveSessionRemovesIt() {
+        User user = createUser(10L, false);
+        index.put(createSession(1L, user, "token-1", true));
+
+        index.put(createSession(1L, user, "token-1", false));
+
+        assertTrue(index.findByToken("token-1").isEmpty());
+        assertTrue(index.findAllByUserId(10L).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void removeAllByUserIdOnlyAffectsThatUser() {
+        User user = createUser(10L, false);
+        User other = createUser(20L, false);
+        index.put(createSession(1L, user, "token-1", true));
+        index.put(createSession(2L, user, "token-2", true));
+        index.put(createSession(3L, other, "token-3", true));
+
+        assertEquals(2, index.findAllByUserId(10L).size());
+        assertEquals(2, index.removeAllByUserId(10L));
+
+        assertTrue(index.findAllByUserId(10L).isEmpty());
+        assertTrue(index.findByToken("token-3").isPresent());
+    }
+
+    @Test
+    void refreshUserUpdatesIndexedSessions() {
+        index.put(createSession(1L, createUser(10L, false), "token-1", true));
+
+        index.refreshUser(createUser(10L, true));
+
+        assertFalse(index.findByToken("token-1").orElseThrow().getUser().canLogin());
+    }
+
+    @Test
+    void returnedSessionsAreCopies() {
+        index.put(createSession(1L, createUser(10L, false), "token-1", true));
+
+        index.findByToken("token-1").orElseThrow().deactivate();
+
+        assertTrue(index.findByToken("token-1").orElseThrow().isActive());
+    }
+}
@@ -0,0 +1,124 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.UserRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.routing.ReadReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingUserRepositoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserRepository delegate;
+    private CachingUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(UserRepository.class);
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        repository = new CachingUserRepository(delegate, 100, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void lookupsAreServedFromCacheAsCopies() {
+        when(delegate.findByUsername("alice")).thenReturn(Optional.of(user(1L, "alice", false)));
+
+        User first = repository.findByUsername("alice").orElseThrow();
+        first.block();
+        User byUsername = repository.findByUsername("alice").orElseThrow();
+        User byId = repository.findById(1L).orElseThrow();
+
+        assertFalse(byUsername.getBlocked());
+        assertNotSame(byUsername, byId);
+        verify(delegate, times(1)).findByUsername("alice");
+        verify(delegate, times(0)).findById(1L);
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "users.by-id").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void blockingUserInvalidatesAtCommitAndBypassesCacheInsideTheTransaction() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "alice", false)));
+        when(delegate.findByUsername("alice")).thenReturn(Optional.of(user(1L, "alice", false)));
+        repository.findByUsername("alice");
+
+        TransactionSynchronizationManager.initSynchronization();
+        User toBlock = repository.findById(1L).orElseThrow();
+        toBlock.block();
+        repository.save(toBlock);
+        when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "alice", true)));
+        when(delegate.findByUsername("alice")).thenReturn(Optional.of(user(1L, "alice", true)));
+
+        assertTrue(repository.findById(1L).orElseThrow().getBlocked());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertTrue(repository.findByUsername("alice").orElseThrow().getBlocked());
+        assertTrue(repository.findById(1L).orElseThrow().getBlocked());
+    }
+
+    @Test
+    void renamedUsernameNoLongerResolvesToTheUser() {
+        when(delegate.findByUsername("alice")).thenReturn(Optional.of(user(1L, "alice", false)));
+        repository.findByUsername("alice");
+
+        repository.save(user(1L, "alicia", false));
+        when(delegate.findByUsername("alice")).thenReturn(Optional.empty());
+
+        assertTrue(repository.findByUsername("alice").isEmpty());
+    }
+
+    @Test
+    void replicaReadsOfARecentlyInvalidatedUserAreNotCached() {
+        repository = new CachingUserRepository(delegate, 100, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                meterRegistry);
+        when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "alice", false)));
+        repository.findById(1L);
+        repository.findById(1L);
+        verify(delegate, times(1)).findById(1L);
+
+        repository.save(user(1L, "alice", true));
+        // La replica aun no tiene el bloqueo
+        repository.findById(1L);
+        repository.findById(1L);
+        verify(delegate, times(3)).findById(1L);
+
+        when(delegate.findById(1L)).thenReturn(Optional.of(user(1L, "alice", true)));
+        try (ReadReplicaRoutingDataSource.PrimaryScope ignored = ReadReplicaRoutingDataSource.forcePrimary()) {
+            assertTrue(repository.findById(1L).orElseThrow().getBlocked());
+        }
+        assertTrue(repository.findById(1L).orElseThrow().getBlocked());
+        verify(delegate, times(4)).findById(1L);
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), status);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static User user(Long id, String username, boolean blocked) {
+        return User.builder().id(id).username(username).role(User.Role.USER).blocked(blocked).build();
+    }
+}
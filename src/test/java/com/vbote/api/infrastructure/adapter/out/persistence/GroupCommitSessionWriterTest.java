@@ -0,0 +1,174 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.TokenDigest;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.SessionEntity;
+import com.vbote.api.infrastructure.adapter.out.persistence.mapper.SessionPersistenceMapperImpl;
+import com.vbote.api.infrastructure.adapter.out.persistence.mapper.UserPersistenceMapperImpl;
+import com.vbote.api.infrastructure.adapter.out.persistence.repository.JpaSessionRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.repository.JpaUserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SessionPersistenceAdapter.class, UserPersistenceAdapter.class, ActiveSessionIndex.class,
+        SessionPersistenceMapperImpl.class, UserPersistenceMapperImpl.class})
+class GroupCommitSessionWriterTest {
+
+    // Mas que un bloque de ids de la secuencia
+    private static final int LOGINS = 60;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SessionPersistenceAdapter adapter;
+
+    @Autowired
+    private UserPersistenceAdapter userAdapter;
+
+    @Autowired
+    private ActiveSessionIndex index;
+
+    @Autowired
+    private JpaSessionRepository jpaSessionRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(LOGINS);
+    private GroupCommitSessionWriter writer;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        user = new TransactionTemplate(transactionManager).execute(status -> userAdapter.save(User.builder()
+                .username("alice")
+                .password("encoded_password")
+                .role(User.Role.USER)
+                .blocked(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build()));
+        // Un retraso amplio para que las sesiones concurrentes caigan en el mismo lote
+        writer = new GroupCommitSessionWriter(dataSource, index, true, 100, 500, 100, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.close();
+        executor.shutdownNow();
+        jpaSessionRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+        index.clear();
+    }
+
+    @Test
+    void concurrentSessionsAreCommittedTogetherBeforeTheCallersReturn() throws Exception {
+        List<Future<Session>> logins = new ArrayList<>();
+        for (int i = 0; i < LOGINS; i++) {
+            String token = "token-" + i;
+            logins.add(executor.submit(() -> {
+                Session saved = writer.write(session(user, token));
+                // Al volver la fila ya esta confirmada y es visible desde otra conexion
+                assertTrue(jpaSessionRepository.findByTokenHash(TokenDigest.of(token).toBytes()).isPresent());
+                return saved;
+            }));
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (Future<Session> login : logins) {
+            Session saved = login.get(5, TimeUnit.SECONDS);
+            assertTrue(saved.isActive());
+            assertNotNull(saved.getCreatedAt());
+            ids.add(saved.getId());
+        }
+        assertEquals(LOGINS, ids.size());
+        assertEquals(LOGINS, index.findAllByUserId(user.getId()).size());
+
+        DistributionSummary batches = meterRegistry.get("sessions.group-commit.batch.size").summary();
+        assertEquals(LOGINS, (long) batches.totalAmount());
+        assertTrue(batches.count() < LOGINS, "sessions were not grouped: " + batches.count() + " commits");
+        // Ids de bloques reservados: dos valores de la secuencia bastan para 60 sesiones
+        long span = ids.stream().mapToLong(Long::longValue).max().orElseThrow()
+                - ids.stream().mapToLong(Long::longValue).min().orElseThrow();
+        assertTrue(span < 2 * SessionEntity.ID_ALLOCATION_SIZE, "ids spread over " + span);
+
+        // Los ids tomados de la secuencia no chocan con los que reserva Hibernate
+        Session jpaSaved = new TransactionTemplate(transactionManager)
+                .execute(status -> adapter.save(session(user, "token-jpa")));
+        assertFalse(ids.contains(jpaSaved.getId()));
+    }
+
+    @Test
+    void failedSessionDoesNotFailTheRestOfItsBatch() throws Exception {
+        User missing = user.toBuilder().id(user.getId() + 1000).build();
+        Future<Session> valid = executor.submit(() -> writer.write(session(user, "token-valid")));
+        Future<Session> invalid = executor.submit(() -> writer.write(session(missing, "token-invalid")));
+
+        assertNotNull(valid.get(5, TimeUnit.SECONDS).getId());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> invalid.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DataIntegrityViolationException.class, failure.getCause());
+        assertEquals(1, jpaSessionRepository.count());
+        assertTrue(index.findByToken("token-valid").isPresent());
+    }
+
+    @Test
+    void sessionOfARolledBackLoginIsClosed() throws Exception {
+        GroupCommitSessionRepository repository = new GroupCommitSessionRepository(adapter, writer);
+
+        Session saved = new TransactionTemplate(transactionManager).execute(status -> {
+            Session session = repository.save(session(user, "token-rolled-back"));
+            status.setRollbackOnly();
+            return session;
+        });
+
+        assertTrue(index.findByToken("token-rolled-back").isEmpty());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jpaSessionRepository.findById(saved.getId()).orElseThrow().getActive()) {
+            assertTrue(System.nanoTime() < deadline, "session of the rolled back login is still active");
+            Thread.sleep(20);
+        }
+    }
+
+    private static Session session(User user, String token) {
+        return Session.builder()
+                .user(user)
+                .token(token)
+                .ipAddress("127.0.0.1")
+                .build();
+    }
+}
@@ -0,0 +1,267 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.SessionValidation;
+import com.vbote.api.domain.model.TokenDigest;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.persistence.mapper.SessionPersistenceMapper;
+import com.vbote.api.infrastructure.adapter.out.persistence.mapper.SessionPersistenceMapperImpl;
+import com.vbote.api.infrastructure.adapter.out.persistence.mapper.UserPersistenceMapperImpl;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.SessionArchiveEntity;
+import com.vbote.api.infrastructure.adapter.out.persistence.entity.SessionEntity;
+import com.vbote.api.infrastructure.adapter.out.persistence.repository.JpaSessionArchiveRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.repository.JpaSessionRepository;
+import com.vbote.api.infrastructure.adapter.out.persistence.repository.JpaUserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Sin transaccion de test: el indice solo se actualiza al confirmar, asi que cada operacion se
+ * confirma en su propia transaccion.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SessionPersistenceAdapter.class, UserPersistenceAdapter.class, ActiveSessionIndex.class,
+        SessionPersistenceMapperImpl.class, UserPersistenceMapperImpl.class})
+class SessionPersistenceAdapterTest {
+
+    @Autowired
+    private SessionPersistenceAdapter adapter;
+
+    @Autowired
+    private UserPersistenceAdapter userAdapter;
+
+    @Autowired
+    private ActiveSessionIndex index;
+
+    @Autowired
+    private JpaSessionRepository jpaSessionRepository;
+
+    @Autowired
+    private JpaSessionArchiveRepository jpaSessionArchiveRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SessionPersistenceMapper mapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private Session createSession(String token, LocalDateTime createdAt) {
+        return inTransaction(() -> adapter.save(Session.builder()
+                .user(user)
+                .token(token)
+                .ipAddress("127.0.0.1")
+                .createdAt(createdAt)
+                .build()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime now = LocalDateTime.now();
+        user = inTransaction(() -> userAdapter.save(User.builder()
+                .username("alice")
+                .password("encoded_password")
+                .role(User.Role.USER)
+                .blocked(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jpaSessionArchiveRepository.deleteAllInBatch();
+        jpaSessionRepository.deleteAllInBatch();
+        jpaUserRepository.deleteAllInBatch();
+        index.clear();
+    }
+
+    @Test
+    void savedSessionIsServedFromIndex() {
+        Session saved = createSession("token-1", null);
+
+        Session found = adapter.findByToken("token-1").orElseThrow();
+
+        assertEquals(saved.getId(), found.getId());
+        assertTrue(found.isActive());
+        assertNotNull(found.getCreatedAt());
+        assertEquals(1, adapter.findAllActiveByUserId(user.getId()).size());
+    }
+
+    @Test
+    void onlyTheTokenDigestIsStored() {
+        Session saved = createSession("token-1", null);
+
+        SessionEntity entity = inTransaction(() ->
+                jpaSessionRepository.findByTokenHash(TokenDigest.of("token-1").toBytes()).orElseThrow());
+        Session fromDatabase = inTransaction(() -> adapter.findActivePage(null, 1).get(0));
+
+        assertEquals(saved.getId(), entity.getId());
+        assertEquals(TokenDigest.LENGTH, entity.getTokenHash().length);
+        assertNull(fromDatabase.getToken());
+        assertEquals(TokenDigest.of("token-1"), fromDatabase.getTokenDigest());
+        assertNull(adapter.findByToken("token-1").orElseThrow().getToken());
+    }
+
+    @Test
+    void validationProjectionMatchesIndexAndDatabase() {
+        Session saved = createSession("token-1", null);
+
+        SessionValidation fromIndex = adapter.findValidationByToken("token-1").orElseThrow();
+        SessionValidation fromDatabase = inTransaction(() ->
+                jpaSessionRepository.findValidationByTokenHash(TokenDigest.of("token-1").toBytes()).orElseThrow());
+
+        assertEquals(saved.getId(), fromIndex.getSessionId());
+        assertEquals(saved.getId(), fromDatabase.getSessionId());
+        assertTrue(fromIndex.isActive());
+        assertTrue(fromDatabase.isActive());
+        assertEquals(user.getId(), fromDatabase.getUserId());
+        assertEquals("alice", fromDatabase.getUsername());
+        assertEquals(User.Role.USER, fromDatabase.getRole());
+        assertFalse(fromDatabase.getBlocked());
+        assertTrue(jpaSessionRepository.findValidationByTokenHash(TokenDigest.of("unknown").toBytes()).isEmpty());
+    }
+
+    @Test
+    void batchValidationResolvesAllTokensInOneQuery() {
+        Session first = createSession("token-1", null);
+        Session second = createSession("token-2", null);
+        SessionPersistenceAdapter withoutIndex = new SessionPersistenceAdapter(jpaSessionRepository,
+                jpaSessionArchiveRepository, mapper, index, entityManager, false);
+        List<String> tokens = List.of("token-1", "token-2", "unknown");
+
+        Map<String, SessionValidation> fromIndex = adapter.findValidationsByTokens(tokens);
+        statistics.clear();
+        Map<String, SessionValidation> fromDatabase = withoutIndex.findValidationsByTokens(tokens);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(Set.of("token-1", "token-2"), fromIndex.keySet());
+        assertEquals(first.getId(), fromIndex.get("token-1").getSessionId());
+        assertEquals(second.getId(), fromIndex.get("token-2").getSessionId());
+        assertEquals(fromIndex, fromDatabase);
+        assertEquals("alice", fromDatabase.get("token-1").getUsername());
+        assertTrue(withoutIndex.findValidationsByTokens(List.of()).isEmpty());
+    }
+
+    @Test
+    void deactivateAllByUserIdClearsIndex() {
+        createSession("token-1", null);
+        createSession("token-2", null);
+
+        assertEquals(2, inTransaction(() -> adapter.deactivateAllByUserId(user.getId())));
+
+        assertTrue(index.findByToken("token-1").isEmpty());
+        assertFalse(inTransaction(() -> adapter.findByToken("token-1")).orElseThrow().isActive());
+        assertTrue(adapter.findAllActive().isEmpty());
+    }
+
+    @Test
+    void deactivateCreatedBeforeWorksInBoundedBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        createSession("old-1", now.minusDays(3));
+        createSession("old-2", now.minusDays(2));
+        createSession("fresh", now);
+        LocalDateTime cutoff = now.minusDays(1);
+
+        assertEquals(1, inTransaction(() -> adapter.deactivateCreatedBefore(cutoff, 1)));
+        assertTrue(index.findByToken("old-1").isEmpty());
+        assertTrue(index.findByToken("old-2").isPresent());
+
+        assertEquals(1, inTransaction(() -> adapter.deactivateCreatedBefore(cutoff, 1)));
+        assertEquals(0, inTransaction(() -> adapter.deactivateCreatedBefore(cutoff, 1)));
+        assertTrue(index.findByToken("fresh").isPresent());
+        assertEquals(1, adapter.findAllActive().size());
+    }
+
+    @Test
+    void activePagesSeekPastCursor() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        createSession("token-1", now.minusMinutes(3));
+        createSession("token-2", now.minusMinutes(2));
+        createSession("token-3", now.minusMinutes(1));
+
+        List<Session> firstPage = inTransaction(() -> adapter.findActivePage(null, 2));
+        Session last = firstPage.get(1);
+        List<Session> secondPage = inTransaction(() ->
+                adapter.findActivePage(new PageCursor(last.getCreatedAt(), last.getId()), 2));
+
+        assertEquals(TokenDigest.of("token-2"), last.getTokenDigest());
+        assertNull(last.getToken());
+        assertEquals(1, secondPage.size());
+        assertEquals(TokenDigest.of("token-3"), secondPage.get(0).getTokenDigest());
+    }
+
+    @Test
+    void archiveMovesOnlyOldInactiveSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        Session old = createSession("old", now.minusDays(3));
+        createSession("old-expired", now.minusDays(3));
+        createSession("recent", now.minusHours(1));
+        inTransaction(() -> adapter.save(old.toBuilder().active(false).build()));
+        inTransaction(() -> adapter.deactivateCreatedBefore(now, 10));
+        createSession("old-active", now.minusDays(3));
+
+        assertEquals(2, inTransaction(() -> adapter.archiveInactiveCreatedBefore(now.minusDays(1), 10)));
+
+        Set<TokenDigest> hotTokens = jpaSessionRepository.findAll().stream()
+                .map(entity -> TokenDigest.fromBytes(entity.getTokenHash())).collect(Collectors.toSet());
+        assertEquals(Set.of(TokenDigest.of("old-active"), TokenDigest.of("recent")), hotTokens);
+        SessionArchiveEntity archived = jpaSessionArchiveRepository.findById(old.getId()).orElseThrow();
+        assertEquals(user.getId(), archived.getUserId());
+        assertEquals(TokenDigest.of("old"), TokenDigest.fromBytes(archived.getTokenHash()));
+        assertNotNull(archived.getArchivedAt());
+        assertEquals(0, inTransaction(() -> adapter.archiveInactiveCreatedBefore(now.minusDays(1), 10)));
+    }
+
+    @Test
+    void purgeDeletesArchivedSessionsPastRetention() {
+        LocalDateTime now = LocalDateTime.now();
+        createSession("old-1", now.minusDays(3));
+        createSession("old-2", now.minusDays(3));
+        inTransaction(() -> adapter.deactivateCreatedBefore(now, 10));
+        inTransaction(() -> adapter.archiveInactiveCreatedBefore(now, 10));
+
+        assertEquals(0, inTransaction(() -> adapter.purgeArchivedBefore(now.minusDays(1), 10)));
+        assertEquals(1, inTransaction(() -> adapter.purgeArchivedBefore(LocalDateTime.now().plusMinutes(1), 1)));
+        assertEquals(1, jpaSessionArchiveRepository.count());
+    }
+}
@@ -0,0 +1,200 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.out.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final SingleFlight<Long, User> singleFlight =
+            new SingleFlight<>("test", user -> user.toBuilder().build(), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void concurrentCallersShareOneLoadAndGetTheirOwnCopy() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Future<User> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return user(1L);
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        List<Future<User>> followers = startFollowers(() -> {
+            loads.incrementAndGet();
+            return user(1L);
+        });
+
+        release.countDown();
+
+        User leaderResult = leader.get(5, TimeUnit.SECONDS);
+        List<User> results = new ArrayList<>();
+        for (Future<User> follower : followers) {
+            results.add(follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        for (User result : results) {
+            assertEquals(leaderResult, result);
+            assertNotSame(leaderResult, result);
+        }
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void failureReachesEveryWaitingCallerAndIsNotKept() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database down");
+        Future<User> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        List<Future<User>> followers = startFollowers(() -> user(1L));
+
+        release.countDown();
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+        for (Future<User> follower : followers) {
+            assertSame(failure, assertThrows(ExecutionException.class,
+                    () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+        }
+        assertEquals(user(1L), singleFlight.load(1L, () -> user(1L)));
+    }
+
+    @Test
+    void interruptedFollowerStopsWaitingWithoutCancellingTheLoad() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<User> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            started.countDown();
+            await(release);
+            return user(1L);
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        AtomicReference<Thread> followerThread = new AtomicReference<>();
+        Future<User> follower = executor.submit(() -> {
+            followerThread.set(Thread.currentThread());
+            return singleFlight.load(1L, () -> user(2L));
+        });
+        awaitCoalesced(1);
+
+        followerThread.get().interrupt();
+
+        ExecutionException cancelled = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CancellationException.class, cancelled.getCause());
+        assertEquals(1, singleFlight.inFlight());
+        release.countDown();
+        assertEquals(user(1L), leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void followersRetryWhenTheLeaderIsInterrupted() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<User> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            leaderStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new CancellationException("query cancelled");
+        }));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+        List<Future<User>> followers = startFollowers(() -> user(1L));
+
+        leader.cancel(true);
+
+        for (Future<User> follower : followers) {
+            assertEquals(user(1L), follower.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void writingTransactionsDoNotJoinAnInFlightLookup() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UserRepository delegate = mock(UserRepository.class);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                started.countDown();
+                await(release);
+            }
+            return Optional.of(user(1L));
+        });
+        CoalescingUserRepository repository = new CoalescingUserRepository(delegate, meterRegistry);
+        Future<Optional<User>> shared = executor.submit(() -> repository.findById(1L));
+        started.await(5, TimeUnit.SECONDS);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertTrue(repository.findById(1L).isPresent());
+        verify(delegate, times(2)).findById(1L);
+        release.countDown();
+        assertTrue(shared.get(5, TimeUnit.SECONDS).isPresent());
+    }
+
+    private List<Future<User>> startFollowers(Supplier<User> loader) throws InterruptedException {
+        List<Future<User>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.load(1L, loader)));
+        }
+        awaitCoalesced(FOLLOWERS);
+        return followers;
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("repository.lookups.coalesced").counter().count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join the in-flight load");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static User user(Long id) {
+        return User.builder().id(id).username("user-" + id).role(User.Role.USER).blocked(false).build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.PageCursor;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.persistence.mapper.UserPersistenceMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({UserPersistenceAdapter.class, UserPersistenceMapperImpl.class, ActiveSessionIndex.class})
+class UserPersistenceAdapterTest {
+
+    @Autowired
+    private UserPersistenceAdapter adapter;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private User createUser(String username, User.Role role, Boolean blocked) {
+        return adapter.save(User.builder()
+                .username(username)
+                .password("encoded_password")
+                .role(role)
+                .blocked(blocked)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build());
+    }
+
+    private List<String> usernames(List<User> users) {
+        return users.stream().map(User::getUsername).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void setUp() {
+        createUser("alice", User.Role.ADMIN, false);
+        createUser("albert", User.Role.USER, true);
+        createUser("bob", User.Role.USER, false);
+        createUser("al_x", User.Role.USER, false);
+    }
+
+    @Test
+    void filtersAreCombinedAndOptional() {
+        assertEquals(4, adapter.findAllWithFilters(null, null, null).size());
+        assertEquals(List.of("alice", "albert", "al_x"), usernames(adapter.findAllWithFilters("al", null, null)));
+        assertEquals(List.of("albert"), usernames(adapter.findAllWithFilters("al", User.Role.USER, true)));
+        assertEquals(List.of("bob", "al_x"), usernames(adapter.findAllWithFilters(null, User.Role.USER, false)));
+    }
+
+    @Test
+    void usernameFilterIsPrefixAndEscapesWildcards() {
+        assertTrue(adapter.findAllWithFilters("lice", null, null).isEmpty());
+        assertEquals(List.of("al_x"), usernames(adapter.findAllWithFilters("al_", null, null)));
+    }
+
+    @Test
+    void pagesSeekPastCursor() {
+        List<User> firstPage = adapter.findPageWithFilters(null, null, null, null, 2);
+        User last = firstPage.get(1);
+        List<User> secondPage = adapter.findPageWithFilters(null, null, null,
+                new PageCursor(last.getCreatedAt(), last.getId()), 2);
+
+        assertEquals(List.of("alice", "albert"), usernames(firstPage));
+        assertEquals(List.of("bob", "al_x"), usernames(secondPage));
+    }
+
+    @Test
+    void streamReturnsAllMatchingUsers() {
+        try (Stream<User> users = adapter.streamAllWithFilters(null, User.Role.USER, null)) {
+            assertEquals(List.of("albert", "bob", "al_x"),
+                    users.map(User::getUsername).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void existsAndFindByUsername() {
+        assertTrue(adapter.existsByUsername("bob"));
+        assertFalse(adapter.existsByUsername("carol"));
+        assertEquals(User.Role.ADMIN, adapter.findByUsername("alice").orElseThrow().getRole());
+    }
+}
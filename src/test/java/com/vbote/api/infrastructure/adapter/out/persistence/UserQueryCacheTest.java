@@ -0,0 +1,78 @@
+package com.vbote.api.infrastructure.adapter.out.persistence;
+
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.UserUseCase;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycachetest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "vbote.sessions.expiry.enabled=false",
+        "vbote.sessions.archive.enabled=false",
+        "vbote.password.bcrypt.strength=4",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class UserQueryCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserUseCase userUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedListingIsServedFromTheQueryCacheUntilAUserIsWritten() throws Exception {
+        User user = userUseCase.createUser(User.builder().username("cached-admin-view").password("secret").build());
+
+        listUsers(false).andExpect(jsonPath("$.items", hasSize(1)));
+        long statements = statistics.getPrepareStatementCount();
+
+        listUsers(false)
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(user.getId()));
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+
+        userUseCase.blockUser(user.getId());
+
+        listUsers(false).andExpect(jsonPath("$.items", hasSize(0)));
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        listUsers(true).andExpect(jsonPath("$.items", hasSize(1)));
+    }
+
+    private ResultActions listUsers(boolean blocked) throws Exception {
+        return mockMvc.perform(get("/api/users")
+                        .param("username", "cached-admin")
+                        .param("role", "USER")
+                        .param("blocked", String.valueOf(blocked)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,118 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tres bases H2 en memoria hacen de primario y replicas; cada conexion se identifica por su URL.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = h2("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+    private final DataSource replica1 = h2("jdbc:h2:mem:routing-replica1;DB_CLOSE_DELAY=-1");
+    private final DataSource replica2 = h2("jdbc:h2:mem:routing-replica2;DB_CLOSE_DELAY=-1");
+    private final DataSource unreachable = h2("jdbc:h2:tcp://localhost:1/unreachable");
+
+    @BeforeEach
+    void readOnlyTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void clear() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writesGoToThePrimary() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(List.of(replica1, replica2));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        try (Connection connection = routing.getConnection()) {
+            assertEquals("routing-primary", databaseOf(connection));
+        }
+    }
+
+    @Test
+    void readsGoToTheReplicaWithFewestBorrowedConnections() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(List.of(replica1, replica2));
+
+        try (Connection first = routing.getConnection();
+             Connection second = routing.getConnection()) {
+            String firstReplica = databaseOf(first);
+            assertTrue(firstReplica.startsWith("routing-replica"));
+            assertTrue(databaseOf(second).startsWith("routing-replica"));
+            assertNotEquals(firstReplica, databaseOf(second));
+
+            first.close();
+            try (Connection third = routing.getConnection()) {
+                assertEquals(firstReplica, databaseOf(third));
+            }
+        }
+        assertEquals(0.0, meterRegistry.get("datasource.reads").tag("target", "primary").functionCounter().count());
+    }
+
+    @Test
+    void failingReplicaIsSkippedAndReadsFallBackToThePrimary() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(List.of(unreachable, replica1));
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = routing.getConnection()) {
+                assertEquals("routing-replica1", databaseOf(connection));
+            }
+        }
+
+        // Registro aparte: cada router publica sus propios contadores
+        SimpleMeterRegistry fallbackRegistry = new SimpleMeterRegistry();
+        ReadReplicaRoutingDataSource onlyUnreachable = new ReadReplicaRoutingDataSource(primary, List.of(unreachable), 60_000);
+        onlyUnreachable.bindTo(fallbackRegistry);
+        try (Connection connection = onlyUnreachable.getConnection()) {
+            assertEquals("routing-primary", databaseOf(connection));
+        }
+        assertEquals(1.0, fallbackRegistry.get("datasource.replica.fallbacks").functionCounter().count());
+    }
+
+    @Test
+    void forcedPrimaryScopeBypassesReplicas() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(List.of(replica1));
+
+        try (ReadReplicaRoutingDataSource.PrimaryScope ignored = ReadReplicaRoutingDataSource.forcePrimary();
+             Connection connection = routing.getConnection()) {
+            assertEquals("routing-primary", databaseOf(connection));
+        }
+        assertFalse(ReadReplicaRoutingDataSource.isPrimaryForced());
+        try (Connection connection = routing.getConnection()) {
+            assertEquals("routing-replica1", databaseOf(connection));
+        }
+    }
+
+    private ReadReplicaRoutingDataSource routing(List<DataSource> replicas) {
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, replicas, 60_000);
+        routing.bindTo(meterRegistry);
+        return routing;
+    }
+
+    private static String databaseOf(Connection connection) throws SQLException {
+        String url = connection.getMetaData().getURL();
+        return url.substring("jdbc:h2:mem:".length()).split(";")[0];
+    }
+
+    private static DataSource h2(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
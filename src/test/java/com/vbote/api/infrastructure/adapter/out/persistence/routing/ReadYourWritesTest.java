@@ -0,0 +1,71 @@
+package com.vbote.api.infrastructure.adapter.out.persistence.routing;
+
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.SessionUseCase;
+import com.vbote.api.domain.port.in.UserUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * La "replica" es la misma base H2 que el primario, asi que las lecturas ven los datos y el test
+ * solo comprueba a que pool va cada transaccion. Sin caches de usuarios, que evitarian la consulta.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:replicatest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "vbote.datasource.replicas.enabled=true",
+        "vbote.datasource.replicas.urls=jdbc:h2:mem:replicatest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "vbote.datasource.replicas.stickiness-ms=60000",
+        "vbote.users.cache.enabled=false",
+        "vbote.jpa.cache.enabled=false",
+        "vbote.sessions.index.enabled=false",
+        "vbote.sessions.expiry.enabled=false",
+        "vbote.sessions.archive.enabled=false",
+        "vbote.password.bcrypt.strength=4",
+        "spring.jpa.show-sql=false"
+})
+class ReadYourWritesTest {
+
+    @Autowired
+    private UserUseCase userUseCase;
+
+    @Autowired
+    private SessionUseCase sessionUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readOnlyUseCasesGoToTheReplica() {
+        User user = userUseCase.createUser(User.builder().username("replica-reader").password("secret").build());
+        double replicaReads = reads("replica-1");
+
+        assertTrue(userUseCase.getUserById(user.getId()).isPresent());
+        userUseCase.getAllUsers(null, null, null);
+
+        assertEquals(replicaReads + 2, reads("replica-1"));
+    }
+
+    @Test
+    void readsAfterLoginAndUpdateStickToThePrimary() {
+        User user = userUseCase.createUser(User.builder().username("replica-writer").password("secret").build());
+        Session session = sessionUseCase.login("replica-writer", "secret", "127.0.0.1");
+        double replicaReads = reads("replica-1");
+        double primaryReads = reads("primary");
+
+        assertTrue(sessionUseCase.validateSession(session.getToken()).isActive());
+        assertFalse(sessionUseCase.getActiveSessionsByUserId(user.getId()).isEmpty());
+        assertTrue(userUseCase.getUserById(user.getId()).isPresent());
+
+        assertEquals(primaryReads + 3, reads("primary"));
+        assertEquals(replicaReads, reads("replica-1"));
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("datasource.reads").tag("target", target).functionCounter().count();
+    }
+}
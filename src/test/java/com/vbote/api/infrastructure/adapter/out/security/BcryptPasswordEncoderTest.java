@@ -0,0 +1,127 @@
+package com.vbote.api.infrastructure.adapter.out.security;
+
+import com.vbote.api.domain.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BcryptPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BcryptPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void encodedPasswordMatches() {
+        passwordEncoder = new BcryptPasswordEncoder(4, 50, 4, 16, 2, 4, meterRegistry);
+
+        String encoded = passwordEncoder.encode("secret");
+
+        assertTrue(passwordEncoder.matches("secret", encoded));
+        assertFalse(passwordEncoder.matches("other", encoded));
+        assertEquals(1, meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void saturatedPoolRejectsWithServiceBusy() throws Exception {
+        passwordEncoder = new BcryptPasswordEncoder(12, 50, 4, 16, 1, 1, meterRegistry);
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(callerPool.submit(() -> {
+                start.await();
+                try {
+                    passwordEncoder.encode("secret");
+                } catch (ServiceBusyException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        callerPool.shutdown();
+
+        assertTrue(rejected.get() > 0);
+        assertEquals(rejected.get(), meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void matchesAsyncUsesTheSamePoolAndFailsWithServiceBusyWhenSaturated() {
+        passwordEncoder = new BcryptPasswordEncoder(12, 50, 4, 16, 1, 1, meterRegistry);
+        String encoded = new BCryptPasswordEncoder(12).encode("secret");
+
+        CompletableFuture<Boolean> running = passwordEncoder.matchesAsync("secret", encoded);
+        CompletableFuture<Boolean> queued = passwordEncoder.matchesAsync("other", encoded);
+        CompletableFuture<Boolean> rejected = passwordEncoder.matchesAsync("secret", encoded);
+
+        CompletionException failure = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(ServiceBusyException.class, failure.getCause());
+        assertTrue(running.join());
+        assertFalse(queued.join());
+        assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+        assertEquals(2, meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void needsRehashWhenCostDiffersFromConfiguredStrength() {
+        passwordEncoder = new BcryptPasswordEncoder(5, 50, 4, 16, 1, 4, meterRegistry);
+        String current = passwordEncoder.encode("secret");
+        String weaker = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertFalse(passwordEncoder.needsRehash(current));
+        assertTrue(passwordEncoder.needsRehash(weaker));
+        assertTrue(passwordEncoder.needsRehash("plain-text"));
+        assertTrue(passwordEncoder.matches("secret", weaker));
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        passwordEncoder = new BcryptPasswordEncoder(0, 0, 4, 6, 1, 4, meterRegistry);
+
+        assertTrue(passwordEncoder.getStrength() >= 4 && passwordEncoder.getStrength() <= 6);
+        assertEquals(4, BcryptPasswordEncoder.calibrateStrength(Long.MAX_VALUE, 4, 4));
+        assertEquals(5, BcryptPasswordEncoder.calibrateStrength(Long.MAX_VALUE, 4, 5));
+    }
+
+    @Test
+    void encodeAllKeepsOrderBeyondQueueCapacity() {
+        passwordEncoder = new BcryptPasswordEncoder(4, 50, 4, 16, 2, 1, meterRegistry);
+        List<String> rawPasswords = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rawPasswords.add("secret" + i);
+        }
+
+        List<String> encoded = passwordEncoder.encodeAll(rawPasswords);
+
+        assertEquals(rawPasswords.size(), encoded.size());
+        for (int i = 0; i < rawPasswords.size(); i++) {
+            assertTrue(passwordEncoder.matches(rawPasswords.get(i), encoded.get(i)));
+        }
+        assertEquals(0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+}
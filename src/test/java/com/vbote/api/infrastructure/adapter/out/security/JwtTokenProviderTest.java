@@ -0,0 +1,84 @@
+package com.vbote.api.infrastructure.adapter.out.security;
+
+import com.vbote.api.domain.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "vbote-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60_000, 100, meterRegistry);
+
+    private User createUser(Long id, String username) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .role(User.Role.USER)
+                .blocked(false)
+                .build();
+    }
+
+    private double cacheRequests(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "jwt.verified-tokens")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    @Test
+    void generatedTokenIsValidAndCarriesUsername() {
+        String token = tokenProvider.generateToken(createUser(1L, "alice"));
+
+        assertTrue(tokenProvider.validateToken(token));
+        assertEquals("alice", tokenProvider.getUsernameFromToken(token));
+    }
+
+    @Test
+    void repeatedValidationIsServedFromCache() {
+        String token = tokenProvider.generateToken(createUser(1L, "alice"));
+
+        tokenProvider.validateToken(token);
+        tokenProvider.validateToken(token);
+        tokenProvider.validateToken(token);
+
+        assertEquals(2, cacheRequests("hit"));
+        assertEquals(1, cacheRequests("miss"));
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = tokenProvider.generateToken(createUser(1L, "alice"));
+
+        assertFalse(tokenProvider.validateToken(token + "x"));
+        assertFalse(tokenProvider.validateToken(""));
+        assertFalse(tokenProvider.validateToken(null));
+    }
+
+    @Test
+    void invalidationForcesReverification() {
+        String aliceToken = tokenProvider.generateToken(createUser(1L, "alice"));
+        String bobToken = tokenProvider.generateToken(createUser(2L, "bob"));
+        tokenProvider.validateToken(aliceToken);
+        tokenProvider.validateToken(bobToken);
+
+        tokenProvider.invalidateToken(aliceToken);
+        tokenProvider.invalidateUserTokens(2L);
+        tokenProvider.validateToken(aliceToken);
+        tokenProvider.validateToken(bobToken);
+
+        assertEquals(0, cacheRequests("hit"));
+        assertEquals(4, cacheRequests("miss"));
+    }
+
+    @Test
+    void tokensForSameUserAreUnique() {
+        User user = createUser(1L, "alice");
+
+        assertNotEquals(tokenProvider.generateToken(user), tokenProvider.generateToken(user));
+    }
+}
@@ -0,0 +1,42 @@
+package com.vbote.api.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadReplicaEnvironmentPostProcessorTest {
+
+    private final ReadReplicaEnvironmentPostProcessor postProcessor = new ReadReplicaEnvironmentPostProcessor();
+
+    @Test
+    void openInViewKeepsItsDefaultWithoutReplicas() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertNull(environment.getProperty("spring.jpa.open-in-view"));
+    }
+
+    @Test
+    void replicasTurnOpenInViewOff() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("vbote.datasource.replicas.enabled", "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals(Boolean.FALSE, environment.getProperty("spring.jpa.open-in-view", Boolean.class));
+    }
+
+    @Test
+    void explicitOpenInViewWins() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("vbote.datasource.replicas.enabled", "true")
+                .withProperty("spring.jpa.open-in-view", "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals(Boolean.TRUE, environment.getProperty("spring.jpa.open-in-view", Boolean.class));
+    }
+}
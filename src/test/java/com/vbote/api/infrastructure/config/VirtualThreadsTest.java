@@ -0,0 +1,34 @@
+package com.vbote.api.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsTest {
+
+    private static final boolean JAVA_21 = Runtime.version().feature() >= 21;
+
+    @Test
+    void supportFollowsTheRuntime() {
+        assertEquals(JAVA_21, VirtualThreads.isSupported());
+    }
+
+    @Test
+    void executorIsEmptyWithoutVirtualThreadsAndNamesThemOtherwise() throws Exception {
+        Optional<ExecutorService> executor = VirtualThreads.newThreadPerTaskExecutor("test-vt-");
+
+        assertEquals(JAVA_21, executor.isPresent());
+        if (executor.isPresent()) {
+            try {
+                String name = executor.get().submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+                assertTrue(name.startsWith("test-vt-"));
+            } finally {
+                executor.get().shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.vbote.api.infrastructure.observability;
+
+import com.vbote.api.domain.exception.InvalidCredentialsException;
+import com.vbote.api.domain.model.Session;
+import com.vbote.api.domain.port.in.SessionUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UseCaseMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SessionUseCase sessionUseCase;
+    private SessionUseCase proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionUseCase = mock(SessionUseCase.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(sessionUseCase);
+        factory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void successfulCallIsTimedAndCounted() {
+        when(sessionUseCase.validateSession("token")).thenReturn(Session.builder().token("token").build());
+
+        proxy.validateSession("token");
+
+        Timer timer = meterRegistry.find(UseCaseMetricsAspect.DURATION_METRIC)
+                .tags("usecase", "SessionUseCase", "method", "validateSession",
+                        "outcome", "success", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void failureIsTaggedWithExceptionType() {
+        when(sessionUseCase.login(any(), any(), any())).thenThrow(new InvalidCredentialsException());
+
+        assertThrows(InvalidCredentialsException.class, () -> proxy.login("alice", "wrong", "127.0.0.1"));
+
+        Counter counter = meterRegistry.find(UseCaseMetricsAspect.CALLS_METRIC)
+                .tags("usecase", "SessionUseCase", "method", "login",
+                        "outcome", "failure", "exception", "InvalidCredentialsException")
+                .counter();
+        assertNotNull(counter);
+        assertEquals(1, counter.count());
+    }
+}
@@ -0,0 +1,89 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import com.vbote.api.domain.model.User;
+import com.vbote.api.infrastructure.adapter.out.security.BcryptPasswordEncoder;
+import com.vbote.api.infrastructure.adapter.out.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable(PasswordHashEvent.class).withThreshold(Duration.ZERO);
+        recording.enable(TokenEvent.class).withThreshold(Duration.ZERO);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    private List<RecordedEvent> stopAndRead(String eventName) throws IOException {
+        recording.stop();
+        Path file = tempDir.resolve("events.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void passwordHashEventsCarryOperationAndOutcome() throws IOException {
+        BcryptPasswordEncoder encoder = new BcryptPasswordEncoder(4, 50, 4, 4, 1, 4, new SimpleMeterRegistry());
+        try {
+            String hash = encoder.encode("secret");
+            encoder.matches("secret", hash);
+        } finally {
+            encoder.shutdown();
+        }
+
+        List<RecordedEvent> events = stopAndRead("com.vbote.PasswordHash");
+
+        assertEquals(List.of("encode", "matches"),
+                events.stream().map(event -> event.getString("operation")).collect(Collectors.toList()));
+        assertTrue(events.stream().allMatch(event -> "success".equals(event.getString("outcome"))));
+        assertEquals(4, events.get(0).getInt("strength"));
+    }
+
+    @Test
+    void tokenVerificationRecordsCacheHitsAndInvalidTokens() throws IOException {
+        JwtTokenProvider provider = new JwtTokenProvider(
+                "vbote-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm",
+                60_000, 100, new SimpleMeterRegistry());
+        String token = provider.generateToken(User.builder().id(1L).username("alice").role(User.Role.USER).build());
+        provider.validateToken(token);
+        provider.validateToken(token);
+        provider.validateToken("not-a-jwt");
+
+        List<RecordedEvent> verifications = stopAndRead("com.vbote.Token").stream()
+                .filter(event -> "verify".equals(event.getString("operation")))
+                .collect(Collectors.toList());
+
+        assertEquals(3, verifications.size());
+        assertFalse(verifications.get(0).getBoolean("cacheHit"));
+        assertTrue(verifications.get(1).getBoolean("cacheHit"));
+        assertFalse(verifications.get(2).getBoolean("valid"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.vbote.api.infrastructure.observability.jfr;
+
+import com.vbote.api.domain.model.User;
+import com.vbote.api.domain.port.in.UserUseCase;
+import com.vbote.api.domain.port.out.UserRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:jfrrepositorytest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "vbote.sessions.expiry.enabled=false",
+        "vbote.sessions.archive.enabled=false",
+        "vbote.password.bcrypt.strength=4",
+        "spring.jpa.show-sql=false"
+})
+class JfrRepositoryEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserUseCase userUseCase;
+
+    @Test
+    void decoratedLookupEmitsOneEventFromTheJpaAdapterOnly() throws Exception {
+        Long id = userUseCase.createUser(User.builder().username("jfr-user").password("secret").build()).getId();
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(RepositoryCallEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            userRepository.findById(id);
+            // Acierto de cache: no llega al adaptador
+            userRepository.findById(id);
+            recording.stop();
+            Path file = tempDir.resolve("events.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.vbote.RepositoryCall"))
+                    .collect(Collectors.toList());
+        }
+
+        assertEquals(1, events.size());
+        assertEquals("UserRepository", events.get(0).getString("repository"));
+        assertEquals("findById", events.get(0).getString("method"));
+    }
+}
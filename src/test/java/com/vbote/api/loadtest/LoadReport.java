@@ -0,0 +1,181 @@
+package com.vbote.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencias por operacion en histogramas HdrHistogram, informe de percentiles y comparacion con la
+ * linea base guardada.
+ */
+class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Operation> operations = new LinkedHashMap<>();
+    private long durationNanos;
+
+    LoadReport(Iterable<String> operationNames) {
+        operationNames.forEach(name -> operations.put(name, new Operation()));
+    }
+
+    void record(String operation, long latencyNanos, boolean ok) {
+        Operation op = operations.get(operation);
+        op.histogram.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!ok) {
+            op.errors.incrementAndGet();
+        }
+    }
+
+    void finish(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    long totalCount() {
+        return operations.values().stream().mapToLong(op -> op.histogram.getTotalCount()).sum();
+    }
+
+    long totalErrors() {
+        return operations.values().stream().mapToLong(op -> op.errors.get()).sum();
+    }
+
+    /*
+     * Metricas comparables con la linea base: p50/p99/p999 en ms y throughput en operaciones por segundo
+     */
+    Properties toMetrics() {
+        Properties metrics = new Properties();
+        operations.forEach((name, op) -> {
+            metrics.setProperty(name + ".p50.ms", millis(op.histogram.getValueAtPercentile(50)));
+            metrics.setProperty(name + ".p99.ms", millis(op.histogram.getValueAtPercentile(99)));
+            metrics.setProperty(name + ".p999.ms", millis(op.histogram.getValueAtPercentile(99.9)));
+            metrics.setProperty(name + ".throughput",
+                    String.format(Locale.ROOT, "%.1f", throughput(op.histogram.getTotalCount())));
+        });
+        metrics.setProperty("total.throughput", String.format(Locale.ROOT, "%.1f", throughput(totalCount())));
+        return metrics;
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%-12s %8s %7s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        operations.forEach((name, op) -> out.printf(Locale.ROOT, "%-12s %8d %7d %10.1f %10s %10s %10s %10s%n",
+                name,
+                op.histogram.getTotalCount(),
+                op.errors.get(),
+                throughput(op.histogram.getTotalCount()),
+                millis(op.histogram.getValueAtPercentile(50)),
+                millis(op.histogram.getValueAtPercentile(99)),
+                millis(op.histogram.getValueAtPercentile(99.9)),
+                millis(op.histogram.getMaxValue())));
+        out.printf(Locale.ROOT, "%-12s %8d %7d %10.1f%n", "total", totalCount(), totalErrors(), throughput(totalCount()));
+    }
+
+    /*
+     * Un .hgrm por operacion, legible con el plotter de HdrHistogram
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("report.txt")),
+                true, StandardCharsets.UTF_8.name())) {
+            print(out);
+        }
+        for (Map.Entry<String, Operation> entry : operations.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")),
+                    true, StandardCharsets.UTF_8.name())) {
+                entry.getValue().histogram.outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+        store(toMetrics(), directory.resolve("metrics.properties"), "Load test metrics");
+    }
+
+    /**
+     * Compara con la linea base. Una latencia empeora si supera la base en mas de
+     * {@code latencyTolerance} y {@code latencySlackMs}, para no fallar por fluctuaciones de
+     * milisegundos; el throughput, si queda por debajo en mas de {@code throughputTolerance}.
+     *
+     * @return descripcion de cada regresion, vacia si no hay ninguna
+     */
+    List<String> regressionsAgainst(Properties baseline, double latencyTolerance, double latencySlackMs,
+                                    double throughputTolerance) {
+        Properties current = toMetrics();
+        List<String> regressions = new ArrayList<>();
+        for (String key : baseline.stringPropertyNames()) {
+            String value = current.getProperty(key);
+            if (value == null) {
+                continue;
+            }
+            double expected = Double.parseDouble(baseline.getProperty(key));
+            double actual = Double.parseDouble(value);
+            if (key.endsWith(".ms") && actual > expected * (1 + latencyTolerance) + latencySlackMs) {
+                regressions.add(String.format(Locale.ROOT, "%s: %.3f ms > baseline %.3f ms (+%.0f%% +%.1f ms)",
+                        key, actual, expected, latencyTolerance * 100, latencySlackMs));
+            } else if (key.endsWith(".throughput") && actual < expected * (1 - throughputTolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: %.1f ops/s < baseline %.1f ops/s (-%.0f%%)",
+                        key, actual, expected, throughputTolerance * 100));
+            }
+        }
+        return regressions;
+    }
+
+    static Properties loadBaseline(Path file) throws IOException {
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            baseline.load(reader);
+        }
+        return baseline;
+    }
+
+    /*
+     * El p999 de una pasada corta depende de unas pocas muestras: se informa pero no entra en la base
+     */
+    void saveBaseline(Path file) throws IOException {
+        Properties baseline = toMetrics();
+        baseline.stringPropertyNames().stream()
+                .filter(key -> key.endsWith(".p999.ms"))
+                .forEach(baseline::remove);
+        Files.createDirectories(file.getParent());
+        store(baseline, file, "Load test baseline - regenerate with -Dloadtest.update-baseline=true");
+    }
+
+    /*
+     * Claves ordenadas y sin fecha para que los cambios en la linea base se lean en un diff
+     */
+    private static void store(Properties properties, Path file, String comment) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("# " + comment + System.lineSeparator());
+            for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+                writer.write(key + "=" + properties.getProperty(key) + System.lineSeparator());
+            }
+        }
+    }
+
+    private double throughput(long count) {
+        return durationNanos > 0 ? count * 1e9 / durationNanos : 0;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+    }
+
+    private static final class Operation {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
@@ -0,0 +1,274 @@
+package com.vbote.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de carga de extremo a extremo: arranca la API en un puerto aleatorio sobre H2, crea
+ * {@code loadtest.users} usuarios y {@code loadtest.sessions} sesiones y lanza una mezcla de login,
+ * logout, listado de usuarios con filtros y cierre de sesiones a ritmo fijo ({@code loadtest.rate}
+ * peticiones por segundo).
+ * <p>
+ * La latencia se mide desde el instante en que la peticion debia salir, no desde que sale, para no
+ * ocultar las colas cuando el servidor no da abasto. El informe queda en {@code target/loadtest} y
+ * la pasada falla si los errores superan {@code loadtest.max-error-rate} o si el p50/p99 o el
+ * throughput empeoran respecto a {@code loadtest/baseline.properties} mas alla de la tolerancia
+ * ({@code loadtest.latency-tolerance}, {@code loadtest.latency-slack-ms},
+ * {@code loadtest.throughput-tolerance}).
+ * <p>
+ * Ejecutar: {@code mvn test -Ploadtest}; regenerar la linea base con {@code -Dloadtest.update-baseline=true}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.vbote.api=WARN",
+        "logging.level.com.vbote.api.loadtest=INFO",
+        "logging.level.org.hibernate.SQL=WARN",
+        "vbote.sessions.expiry.enabled=false",
+        "vbote.sessions.archive.enabled=false",
+        "vbote.password.bcrypt.strength=${loadtest.bcrypt-strength:4}"
+})
+@Slf4j
+class SessionLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int SESSIONS = Integer.getInteger("loadtest.sessions", 400);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 50);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 20);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final String MIX = System.getProperty("loadtest.mix",
+            "login:20,logout:25,list-users:45,close-all:10");
+    private static final double MAX_ERROR_RATE = doubleProperty("loadtest.max-error-rate", 0.01);
+    private static final double LATENCY_TOLERANCE = doubleProperty("loadtest.latency-tolerance", 0.50);
+    private static final double LATENCY_SLACK_MS = doubleProperty("loadtest.latency-slack-ms", 5.0);
+    private static final double THROUGHPUT_TOLERANCE = doubleProperty("loadtest.throughput-tolerance", 0.10);
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("loadtest.update-baseline");
+    private static final Path BASELINE = Paths.get(System.getProperty("loadtest.baseline",
+            "src/test/resources/loadtest/baseline.properties"));
+    private static final Path REPORT_DIRECTORY = Paths.get("target", "loadtest");
+
+    private static final String PASSWORD = "load-test-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final Queue<IssuedToken> tokens = new ConcurrentLinkedQueue<>();
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    @Test
+    void mixedWorkloadStaysWithinBaseline() throws Exception {
+        seed();
+        Map<String, Integer> mix = parseMix(MIX);
+
+        run(mix, WARMUP_SECONDS, new LoadReport(mix.keySet()));
+        LoadReport report = run(mix, DURATION_SECONDS, new LoadReport(mix.keySet()));
+
+        // La tabla por operacion queda en report.txt; por el log solo el resumen
+        report.write(REPORT_DIRECTORY);
+        log.info("Load test report written to {}: {} requests, {} errors",
+                REPORT_DIRECTORY.toAbsolutePath(), report.totalCount(), report.totalErrors());
+
+        double errorRate = report.totalCount() > 0 ? (double) report.totalErrors() / report.totalCount() : 1;
+        assertTrue(errorRate <= MAX_ERROR_RATE,
+                String.format("Error rate %.4f above %.4f", errorRate, MAX_ERROR_RATE));
+
+        if (UPDATE_BASELINE) {
+            report.saveBaseline(BASELINE);
+            log.info("Load test baseline written to {}", BASELINE.toAbsolutePath());
+        } else if (Files.exists(BASELINE)) {
+            List<String> regressions = report.regressionsAgainst(LoadReport.loadBaseline(BASELINE),
+                    LATENCY_TOLERANCE, LATENCY_SLACK_MS, THROUGHPUT_TOLERANCE);
+            assertTrue(regressions.isEmpty(),
+                    "Regressions against " + BASELINE + ":\n" + String.join("\n", regressions));
+        } else {
+            log.warn("No load test baseline at {}, run with -Dloadtest.update-baseline=true", BASELINE);
+        }
+    }
+
+    /*
+     * Usuarios por la importacion NDJSON y sesiones con logins reales
+     */
+    private void seed() throws IOException, InterruptedException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < USERS; i++) {
+            ndjson.append("{\"username\":\"user").append(i)
+                    .append("\",\"password\":\"").append(PASSWORD)
+                    .append("\",\"role\":\"").append(i % 10 == 0 ? "ADMIN" : "USER").append("\"}\n");
+        }
+        HttpResponse<String> imported = send(HttpRequest.newBuilder(uri("/api/users/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString())));
+        assertEquals(200, imported.statusCode(), imported.body());
+        for (JsonNode result : objectMapper.readTree(imported.body())) {
+            userIds.add(result.get("id").asLong());
+        }
+
+        for (int i = 0; i < SESSIONS; i++) {
+            assertEquals(200, login(i % USERS));
+        }
+    }
+
+    private LoadReport run(Map<String, Integer> mix, int seconds, LoadReport report) throws InterruptedException {
+        List<String> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        SplittableRandom random = new SplittableRandom(SEED);
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        for (long intended = start; intended < end; intended += periodNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String operation = schedule.get(random.nextInt(schedule.size()));
+            int user = random.nextInt(USERS);
+            long intendedStart = intended;
+            workers.execute(() -> execute(operation, user, intendedStart, report));
+        }
+
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(2, TimeUnit.MINUTES), "Load test requests did not finish");
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    private void execute(String operation, int user, long intendedStart, LoadReport report) {
+        boolean ok;
+        try {
+            ok = perform(operation, user);
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ok = false;
+        }
+        report.record(operation, System.nanoTime() - intendedStart, ok);
+    }
+
+    private boolean perform(String operation, int user) throws IOException, InterruptedException {
+        switch (operation) {
+            case "login":
+                return login(user) == 200;
+            case "logout":
+                return logout(user);
+            case "list-users":
+                return send(HttpRequest.newBuilder(uri("/api/users?username=user" + (user % 10)
+                        + "&role=USER&blocked=false&limit=50")).GET()).statusCode() == 200;
+            case "close-all":
+                return closeAll(user);
+            default:
+                throw new IllegalArgumentException("Unknown load test operation: " + operation);
+        }
+    }
+
+    private int login(int user) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/sessions/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"user" + user + "\",\"password\":\"" + PASSWORD + "\"}")));
+        if (response.statusCode() == 200) {
+            JsonNode body = objectMapper.readTree(response.body());
+            tokens.add(new IssuedToken(body.get("userId").asLong(), body.get("token").asText()));
+        }
+        return response.statusCode();
+    }
+
+    /*
+     * Sin tokens disponibles se hace login; un 404 es una sesion cerrada antes por close-all
+     */
+    private boolean logout(int user) throws IOException, InterruptedException {
+        IssuedToken token = tokens.poll();
+        if (token == null) {
+            return login(user) == 200;
+        }
+        int status = send(HttpRequest.newBuilder(uri("/api/sessions/logout"))
+                .header("Authorization", "Bearer " + token.token)
+                .POST(HttpRequest.BodyPublishers.noBody())).statusCode();
+        return status == 200 || status == 404;
+    }
+
+    private boolean closeAll(int user) throws IOException, InterruptedException {
+        long userId = userIds.get(user);
+        tokens.removeIf(token -> token.userId == userId);
+        return send(HttpRequest.newBuilder(uri("/api/sessions/user/" + userId)).DELETE()).statusCode() == 200;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+    private static final class IssuedToken {
+
+        private final long userId;
+        private final String token;
+
+        private IssuedToken(long userId, String token) {
+            this.userId = userId;
+            this.token = token;
+        }
+    }
+}